@@ -0,0 +1,70 @@
+package com.kunal.seleniumassignment.benchmarks;
+
+import com.kunal.seleniumassignment.pages.ErailPage;
+import com.kunal.seleniumassignment.utils.StationIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link ErailPage} interaction patterns against synthetic dropdown
+ * element lists served by {@link FakeWebDriver}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ErailPageBenchmark {
+
+    @Param({ "10", "100", "1000" })
+    public int optionCount;
+
+    private static final String[] STATION_CODES = { "DEL", "MAS" };
+
+    private ErailPage erailPage;
+    private int next;
+
+    @Setup
+    public void setup() {
+        erailPage = new ErailPage(new FakeWebDriver(optionCount));
+    }
+
+    /**
+     * Alternates the station code, as the dropdown must change between scrapes.
+     */
+    private String nextStationCode() {
+        return STATION_CODES[next++ % STATION_CODES.length];
+    }
+
+    @Benchmark
+    public List<String> scrapeDropdownOptions() {
+        return erailPage.scrapeDropdownOptions(nextStationCode());
+    }
+
+    @Benchmark
+    public Map<String, List<String>> scrapeThenVerifyStation() {
+        String code = nextStationCode();
+        StationIndex stations = new StationIndex();
+        stations.add(code, erailPage.scrapeDropdownOptions(code));
+        return stations.missing(Map.of(code, List.of(code + " Station " + (optionCount - 1))));
+    }
+
+    @Benchmark
+    public String selectDropdownOption() {
+        return erailPage.selectDropdownOption(optionCount - 1);
+    }
+}
@@ -0,0 +1,245 @@
+package com.kunal.seleniumassignment.benchmarks;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * In-process WebDriver stand-in for benchmarks. Every lookup returns visible,
+ * enabled elements without any network round trip, so measurements only show
+ * the overhead of the framework code around the driver. Typing into an element
+ * replaces the element list with entries named after the typed text, like the
+ * ERAIL autocomplete, and the previous elements go stale.
+ */
+public class FakeWebDriver implements WebDriver, JavascriptExecutor {
+
+    private final int elementCount;
+    private int generation;
+    private String query = "";
+    private List<WebElement> elements;
+
+    /**
+     * @param elementCount number of elements returned by {@link #findElements(By)}
+     */
+    public FakeWebDriver(int elementCount) {
+        this.elementCount = elementCount;
+        this.elements = createElements();
+    }
+
+    private List<WebElement> createElements() {
+        List<WebElement> created = new ArrayList<>(elementCount);
+        for (int i = 0; i < elementCount; i++) {
+            created.add(new FakeWebElement((query.isEmpty() ? "" : query + " ") + "Station " + i, this, generation));
+        }
+        return Collections.unmodifiableList(created);
+    }
+
+    private void replaceElements(String typed) {
+        generation++;
+        query = typed;
+        elements = createElements();
+    }
+
+    @Override
+    public void get(String url) {
+        // Nothing to load
+    }
+
+    @Override
+    public String getCurrentUrl() {
+        return "about:blank";
+    }
+
+    @Override
+    public String getTitle() {
+        return "";
+    }
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        return elements;
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        return elements.isEmpty() ? new FakeWebElement("", this, generation) : elements.get(0);
+    }
+
+    @Override
+    public String getPageSource() {
+        return "";
+    }
+
+    @Override
+    public void close() {
+        // Nothing to close
+    }
+
+    @Override
+    public void quit() {
+        // Nothing to quit
+    }
+
+    @Override
+    public Set<String> getWindowHandles() {
+        return Set.of("fake");
+    }
+
+    @Override
+    public String getWindowHandle() {
+        return "fake";
+    }
+
+    @Override
+    public TargetLocator switchTo() {
+        throw new UnsupportedOperationException("switchTo is not supported by FakeWebDriver");
+    }
+
+    @Override
+    public Navigation navigate() {
+        throw new UnsupportedOperationException("navigate is not supported by FakeWebDriver");
+    }
+
+    @Override
+    public Options manage() {
+        throw new UnsupportedOperationException("manage is not supported by FakeWebDriver");
+    }
+
+    @Override
+    public Object executeScript(String script, Object... args) {
+        return script.contains("document.readyState") ? "complete" : null;
+    }
+
+    @Override
+    public Object executeAsyncScript(String script, Object... args) {
+        return null;
+    }
+
+    /**
+     * Element that is displayed and enabled until its list is replaced and
+     * exposes its text as the {@code title} attribute, like the ERAIL
+     * autocomplete entries.
+     */
+    static final class FakeWebElement implements WebElement {
+        private final String text;
+        private final FakeWebDriver owner;
+        private final int generation;
+
+        FakeWebElement(String text, FakeWebDriver owner, int generation) {
+            this.text = text;
+            this.owner = owner;
+            this.generation = generation;
+        }
+
+        private void checkNotStale() {
+            if (generation != owner.generation) {
+                throw new StaleElementReferenceException("Element list was replaced");
+            }
+        }
+
+        @Override
+        public void click() {
+            checkNotStale();
+        }
+
+        @Override
+        public void submit() {
+            // Nothing to submit
+        }
+
+        @Override
+        public void sendKeys(CharSequence... keysToSend) {
+            // Refreshes the element list for the typed text
+            owner.replaceElements(String.join("", keysToSend));
+        }
+
+        @Override
+        public void clear() {
+            // Nothing to clear
+        }
+
+        @Override
+        public String getTagName() {
+            return "div";
+        }
+
+        @Override
+        public String getDomAttribute(String name) {
+            checkNotStale();
+            return text;
+        }
+
+        @Override
+        public String getAttribute(String name) {
+            return text;
+        }
+
+        @Override
+        public boolean isSelected() {
+            return false;
+        }
+
+        @Override
+        public boolean isEnabled() {
+            checkNotStale();
+            return true;
+        }
+
+        @Override
+        public String getText() {
+            return text;
+        }
+
+        @Override
+        public List<WebElement> findElements(By by) {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public WebElement findElement(By by) {
+            return this;
+        }
+
+        @Override
+        public boolean isDisplayed() {
+            checkNotStale();
+            return true;
+        }
+
+        @Override
+        public Point getLocation() {
+            return new Point(0, 0);
+        }
+
+        @Override
+        public Dimension getSize() {
+            return new Dimension(100, 20);
+        }
+
+        @Override
+        public Rectangle getRect() {
+            return new Rectangle(getLocation(), getSize());
+        }
+
+        @Override
+        public String getCssValue(String propertyName) {
+            return "";
+        }
+
+        @Override
+        public <X> X getScreenshotAs(OutputType<X> target) {
+            throw new UnsupportedOperationException("Screenshots are not supported by FakeWebElement");
+        }
+    }
+}
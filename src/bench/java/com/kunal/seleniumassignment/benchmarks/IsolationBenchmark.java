@@ -0,0 +1,92 @@
+package com.kunal.seleniumassignment.benchmarks;
+
+import com.kunal.seleniumassignment.pages.ErailPage;
+import com.kunal.seleniumassignment.utils.StandInServer;
+import com.kunal.seleniumassignment.utils.WebDriverManagerUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.WebDriver;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the row throughput of a browser process per test thread with
+ * isolated contexts of one shared browser, running the ERAIL station search
+ * against the stand-in server from several threads at once. Needs a real
+ * browser, so it is left out of the default benchmark run; run it with
+ * {@code mvn -Pbenchmark verify -Djmh.include=IsolationBenchmark}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Threads(4)
+@Fork(1)
+public class IsolationBenchmark {
+
+    /**
+     * The stand-in site and the isolation under test, shared by all threads.
+     */
+    @State(Scope.Benchmark)
+    public static class Site {
+
+        @Param({ WebDriverManagerUtil.PROCESS_ISOLATION, WebDriverManagerUtil.CONTEXT_ISOLATION })
+        public String isolation;
+
+        @Param({ "chrome" })
+        public String browser;
+
+        @Param({ "50" })
+        public long latencyMs;
+
+        private String url;
+
+        @Setup
+        public void setup() {
+            url = StandInServer.start(0, latencyMs, 0, 0, 42).getBaseUrl() + "/erail/";
+        }
+
+        @TearDown
+        public void tearDown() {
+            WebDriverManagerUtil.quitSharedBrowsers();
+            StandInServer.stop();
+        }
+    }
+
+    /**
+     * The browser of one benchmark thread.
+     */
+    @State(Scope.Thread)
+    public static class Row {
+
+        private WebDriver driver;
+
+        @Setup
+        public void setup(Site site) {
+            driver = WebDriverManagerUtil.getDriver(site.browser, "true", site.isolation);
+        }
+
+        @TearDown
+        public void tearDown() {
+            WebDriverManagerUtil.quitDriver();
+        }
+    }
+
+    @Benchmark
+    public List<String> searchStation(Site site, Row row) {
+        row.driver.get(site.url);
+        return new ErailPage(row.driver).scrapeDropdownOptions("DEL");
+    }
+}
@@ -0,0 +1,73 @@
+package com.kunal.seleniumassignment.benchmarks;
+
+import com.kunal.seleniumassignment.utils.PageLoadUtil;
+import com.kunal.seleniumassignment.utils.WaitUtility;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the fixed cost of {@link WaitUtility} and {@link PageLoadUtil} when
+ * the condition is already satisfied, using an in-process driver.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WaitBenchmark {
+
+    private FakeWebDriver driver;
+    private WebElement element;
+    private List<WebElement> elements;
+
+    @Setup
+    public void setup() {
+        driver = new FakeWebDriver(10);
+        element = driver.findElement(By.id("txtStationFrom"));
+        elements = driver.findElements(By.xpath("//div[@class='autocomplete']/div"));
+    }
+
+    @Benchmark
+    public WebElement waitForElementToBeVisible() {
+        return WaitUtility.waitForElementToBeVisible(driver, element);
+    }
+
+    @Benchmark
+    public WebElement waitForLocatorToBeVisible() {
+        return WaitUtility.waitForElementToBeVisible(driver, By.id("txtStationFrom"));
+    }
+
+    @Benchmark
+    public WebElement waitForElementToBeClickable() {
+        return WaitUtility.waitForElementToBeClickable(driver, element);
+    }
+
+    @Benchmark
+    public List<WebElement> waitForElementsToBeVisible() {
+        return WaitUtility.waitForElementsToBeVisible(driver, elements);
+    }
+
+    @Benchmark
+    public WebElement fluentWaitForElement() {
+        return WaitUtility.fluentWaitForElement(driver, element);
+    }
+
+    @Benchmark
+    public void waitForPageToLoad() {
+        PageLoadUtil.waitForPageToLoad(driver, 10);
+    }
+}
@@ -0,0 +1,80 @@
+package com.kunal.seleniumassignment.utils;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the coercion cost of {@code ExcelUtils.getCellValue} per cell type
+ * on an in-memory workbook. Lives in the utils package so it can reach the
+ * package-private helper directly.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CellValueBenchmark {
+
+    private Workbook workbook;
+    private Cell stringCell;
+    private Cell numericCell;
+    private Cell booleanCell;
+    private Cell blankCell;
+
+    @Setup
+    public void setup() {
+        workbook = new XSSFWorkbook();
+        Sheet sheet = workbook.createSheet("Cells");
+        Row row = sheet.createRow(0);
+        stringCell = row.createCell(0);
+        stringCell.setCellValue("Admin");
+        numericCell = row.createCell(1);
+        numericCell.setCellValue(12345);
+        booleanCell = row.createCell(2);
+        booleanCell.setCellValue(true);
+        blankCell = row.createCell(3);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        workbook.close();
+    }
+
+    @Benchmark
+    public String stringCell() {
+        return ExcelUtils.getCellValue(stringCell);
+    }
+
+    @Benchmark
+    public String numericCell() {
+        return ExcelUtils.getCellValue(numericCell);
+    }
+
+    @Benchmark
+    public String booleanCell() {
+        return ExcelUtils.getCellValue(booleanCell);
+    }
+
+    @Benchmark
+    public String blankCell() {
+        return ExcelUtils.getCellValue(blankCell);
+    }
+}
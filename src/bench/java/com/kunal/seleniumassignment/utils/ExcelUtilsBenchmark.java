@@ -0,0 +1,93 @@
+package com.kunal.seleniumassignment.utils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link ExcelUtils} read and write on generated workbooks, and
+ * station lookup in a {@link StationIndex} of the same rows.
+ * Large row counts are slow by design; narrow them with {@code -p rows=...}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ExcelUtilsBenchmark {
+
+    @Param({ "1000", "10000", "100000", "1000000" })
+    public int rows;
+
+    private static final int STATION_CODES = 10;
+
+    private List<String> data;
+    private Map<String, List<String>> optionsByCode;
+    private Path workbookFile;
+    private Path scratchFile;
+    private String lastValue;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        data = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            data.add("Station " + i);
+        }
+        lastValue = data.get(rows - 1);
+        optionsByCode = new LinkedHashMap<>();
+        for (int i = 0; i < rows; i++) {
+            optionsByCode.computeIfAbsent("C" + (i % STATION_CODES), code -> new ArrayList<>()).add(data.get(i));
+        }
+        workbookFile = Files.createTempFile("excel-bench", ".xlsx");
+        scratchFile = Files.createTempFile("excel-bench-write", ".xlsx");
+        ExcelUtils.writeToExcel(workbookFile.toString(), data);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(workbookFile);
+        Files.deleteIfExists(scratchFile);
+    }
+
+    @Benchmark
+    public void writeToExcel() {
+        ExcelUtils.writeToExcel(scratchFile.toString(), data);
+    }
+
+    @Benchmark
+    public List<String> readFromExcel() {
+        return ExcelUtils.readFromExcel(workbookFile.toString());
+    }
+
+    @Benchmark
+    public void writeDropdownDataToExcel() {
+        ExcelUtils.writeDropdownDataToExcel(optionsByCode, scratchFile.toString());
+    }
+
+    @Benchmark
+    public boolean indexThenVerifyStation() {
+        StationIndex stations = new StationIndex();
+        optionsByCode.forEach(stations::add);
+        return stations.contains(lastValue);
+    }
+}
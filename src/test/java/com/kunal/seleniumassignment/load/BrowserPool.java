@@ -0,0 +1,100 @@
+package com.kunal.seleniumassignment.load;
+
+import com.kunal.seleniumassignment.utils.WebDriverManagerUtil;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * Bounded pool of browsers shared by virtual users. Browsers are created lazily
+ * up to the pool size; borrowers block while all browsers are in use.
+ */
+public class BrowserPool implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(BrowserPool.class);
+
+    private final Supplier<WebDriver> factory;
+    private final Semaphore permits;
+    private final BlockingQueue<WebDriver> idle = new LinkedBlockingQueue<>();
+    private final Set<WebDriver> all = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @param size    maximum number of browsers open at once
+     * @param factory creates a new browser when no idle one is available
+     */
+    public BrowserPool(int size, Supplier<WebDriver> factory) {
+        this.factory = factory;
+        this.permits = new Semaphore(size, true);
+    }
+
+    /**
+     * Borrows a browser, waiting until one is available.
+     *
+     * @return a browser owned by the caller until released or discarded
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public WebDriver borrow() throws InterruptedException {
+        permits.acquire();
+        WebDriver driver = idle.poll();
+        if (driver != null) {
+            return driver;
+        }
+        try {
+            driver = factory.get();
+            all.add(driver);
+            logger.info("Browser pool opened browser {} of at most {}", all.size(), all.size() + permits.availablePermits());
+            return driver;
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns a healthy browser to the pool.
+     *
+     * @param driver the borrowed browser
+     */
+    public void release(WebDriver driver) {
+        idle.offer(driver);
+        permits.release();
+    }
+
+    /**
+     * Quits a browser that may be in a broken state instead of reusing it.
+     *
+     * @param driver the borrowed browser
+     */
+    public void discard(WebDriver driver) {
+        all.remove(driver);
+        quit(driver);
+        permits.release();
+    }
+
+    /**
+     * Quits every browser opened by this pool.
+     */
+    @Override
+    public void close() {
+        for (WebDriver driver : all) {
+            quit(driver);
+        }
+        all.clear();
+        idle.clear();
+    }
+
+    private static void quit(WebDriver driver) {
+        try {
+            WebDriverManagerUtil.quit(driver);
+        } catch (Exception e) {
+            logger.warn("Error quitting pooled browser", e);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.kunal.seleniumassignment.load;
+
+import com.kunal.seleniumassignment.pages.ErailPage;
+import com.kunal.seleniumassignment.utils.PageLoadUtil;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Opens ERAIL, picks a station from the autocomplete and selects a journey date.
+ */
+public class ErailSearchScenario implements LoadScenario {
+
+    private final String erailUrl;
+    private final String stationCode;
+    private final int position;
+    private final int daysFromToday;
+
+    public ErailSearchScenario(String erailUrl, String stationCode, int position, int daysFromToday) {
+        this.erailUrl = erailUrl;
+        this.stationCode = stationCode;
+        this.position = position;
+        this.daysFromToday = daysFromToday;
+    }
+
+    @Override
+    public void runIteration(WebDriver driver, LatencyRecorder recorder) throws Exception {
+        recorder.time("open erail", () -> {
+            driver.get(erailUrl);
+            PageLoadUtil.waitForPageToLoad(driver, 10);
+        });
+        ErailPage erailPage = new ErailPage(driver);
+        recorder.time("enter station", () -> erailPage.enterFromStation(stationCode));
+        recorder.time("select station", () -> erailPage.selectStationAtSpecificPosition(position));
+        recorder.time("select date", () -> erailPage.selectDate(daysFromToday));
+    }
+}
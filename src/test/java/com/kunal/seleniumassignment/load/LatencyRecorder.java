@@ -0,0 +1,81 @@
+package com.kunal.seleniumassignment.load;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Collects per-step latencies from all virtual users and summarises them as
+ * throughput and percentiles.
+ */
+public class LatencyRecorder {
+
+    /**
+     * A timed unit of work within a scenario iteration.
+     */
+    @FunctionalInterface
+    public interface Step {
+        void run() throws Exception;
+    }
+
+    private final Map<String, List<Long>> samples = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> errors = new ConcurrentHashMap<>();
+
+    /**
+     * Runs and times a step. Failed steps are counted as errors and rethrown so
+     * the iteration stops.
+     *
+     * @param name the step name used in the report
+     * @param step the work to time
+     * @throws Exception whatever the step throws
+     */
+    public void time(String name, Step step) throws Exception {
+        long start = System.nanoTime();
+        try {
+            step.run();
+            samples.computeIfAbsent(name, key -> Collections.synchronizedList(new ArrayList<>()))
+                    .add(System.nanoTime() - start);
+        } catch (Exception e) {
+            errors.computeIfAbsent(name, key -> new AtomicLong()).incrementAndGet();
+            throw e;
+        }
+    }
+
+    /**
+     * Renders one line per step with count, errors, throughput and percentiles.
+     *
+     * @param elapsedNanos wall-clock time of the run, used for throughput
+     * @return the report text
+     */
+    public String report(long elapsedNanos) {
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        StringBuilder report = new StringBuilder(String.format("%-24s %8s %8s %10s %8s %8s %8s%n", "step", "count",
+                "errors", "ops/s", "p50 ms", "p95 ms", "p99 ms"));
+        List<String> steps = new ArrayList<>(samples.keySet());
+        errors.keySet().stream().filter(step -> !steps.contains(step)).forEach(steps::add);
+        for (String step : steps) {
+            List<Long> sorted;
+            List<Long> recorded = samples.getOrDefault(step, Collections.emptyList());
+            synchronized (recorded) {
+                sorted = new ArrayList<>(recorded);
+            }
+            Collections.sort(sorted);
+            long failures = errors.getOrDefault(step, new AtomicLong()).get();
+            report.append(String.format("%-24s %8d %8d %10.2f %8d %8d %8d%n", step, sorted.size(), failures,
+                    seconds > 0 ? sorted.size() / seconds : 0.0, percentileMs(sorted, 50),
+                    percentileMs(sorted, 95), percentileMs(sorted, 99)));
+        }
+        return report.toString();
+    }
+
+    private static long percentileMs(List<Long> sorted, int percentile) {
+        if (sorted.isEmpty()) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1;
+        return sorted.get(Math.max(0, index)) / 1_000_000;
+    }
+}
@@ -0,0 +1,101 @@
+package com.kunal.seleniumassignment.load;
+
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drives N concurrent virtual users through a {@link LoadScenario}, each
+ * borrowing a browser from a bounded {@link BrowserPool} per iteration.
+ */
+public class LoadRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadRunner.class);
+
+    private final BrowserPool pool;
+    private final int virtualUsers;
+
+    public LoadRunner(BrowserPool pool, int virtualUsers) {
+        this.pool = pool;
+        this.virtualUsers = virtualUsers;
+    }
+
+    /**
+     * Runs the scenario until the duration elapses or every user has completed
+     * the given number of iterations, whichever comes first.
+     *
+     * @param scenario          the flow to run
+     * @param duration          maximum run time
+     * @param iterationsPerUser iterations per user, 0 for no limit
+     * @return the load report, one line per step
+     */
+    public String run(LoadScenario scenario, Duration duration, int iterationsPerUser) {
+        LatencyRecorder recorder = new LatencyRecorder();
+        AtomicLong completed = new AtomicLong();
+        AtomicLong failed = new AtomicLong();
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+
+        logger.info("Starting load run with {} virtual users for {} s (iterations per user: {})", virtualUsers,
+                duration.getSeconds(), iterationsPerUser == 0 ? "unlimited" : iterationsPerUser);
+        ExecutorService users = Executors.newFixedThreadPool(virtualUsers);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int user = 0; user < virtualUsers; user++) {
+                futures.add(users.submit(() -> {
+                    for (int i = 0; (iterationsPerUser == 0 || i < iterationsPerUser)
+                            && System.nanoTime() < deadline; i++) {
+                        if (runIteration(scenario, recorder)) {
+                            completed.incrementAndGet();
+                        } else {
+                            failed.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.error("Load run interrupted", e);
+        } catch (Exception e) {
+            logger.error("Error during load run", e);
+            throw new RuntimeException("Load run failed", e);
+        } finally {
+            users.shutdownNow();
+        }
+
+        long elapsed = System.nanoTime() - start;
+        String report = String.format("Virtual users: %d | Iterations: %d passed, %d failed | Elapsed: %.1f s | "
+                + "Throughput: %.2f iterations/s%n%s", virtualUsers, completed.get(), failed.get(),
+                elapsed / 1_000_000_000.0, completed.get() / (elapsed / 1_000_000_000.0), recorder.report(elapsed));
+        logger.info("Load run completed:\n{}", report);
+        return report;
+    }
+
+    private boolean runIteration(LoadScenario scenario, LatencyRecorder recorder) throws InterruptedException {
+        WebDriver driver = pool.borrow();
+        try {
+            scenario.runIteration(driver, recorder);
+            pool.release(driver);
+            return true;
+        } catch (InterruptedException e) {
+            pool.discard(driver);
+            throw e;
+        } catch (Exception e) {
+            logger.warn("Virtual user iteration failed, discarding its browser: {}", e.getMessage());
+            pool.discard(driver);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.kunal.seleniumassignment.load;
+
+import org.openqa.selenium.WebDriver;
+
+/**
+ * One virtual-user flow built from the existing page objects.
+ */
+public interface LoadScenario {
+
+    /**
+     * Runs one iteration of the flow, timing each step with the recorder. The
+     * browser must be left ready for the next iteration.
+     *
+     * @param driver   the browser borrowed for this iteration
+     * @param recorder records the latency of each step
+     * @throws Exception if any step fails
+     */
+    void runIteration(WebDriver driver, LatencyRecorder recorder) throws Exception;
+}
@@ -0,0 +1,38 @@
+package com.kunal.seleniumassignment.load;
+
+import com.kunal.seleniumassignment.pages.OrangeHRMLoginPage;
+import com.kunal.seleniumassignment.utils.PageLoadUtil;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Opens the OrangeHRM login page, logs in and waits for the dashboard.
+ */
+public class OrangeHRMLoginScenario implements LoadScenario {
+
+    private final String loginUrl;
+    private final String username;
+    private final String password;
+
+    public OrangeHRMLoginScenario(String loginUrl, String username, String password) {
+        this.loginUrl = loginUrl;
+        this.username = username;
+        this.password = password;
+    }
+
+    @Override
+    public void runIteration(WebDriver driver, LatencyRecorder recorder) throws Exception {
+        recorder.time("open login page", () -> {
+            driver.get(loginUrl);
+            PageLoadUtil.waitForPageToLoad(driver, 10);
+        });
+        OrangeHRMLoginPage loginPage = new OrangeHRMLoginPage(driver);
+        recorder.time("submit credentials", () -> loginPage.login(username, password));
+        recorder.time("dashboard visible", () -> {
+            if (!loginPage.isDashboardVisible()) {
+                throw new IllegalStateException("Dashboard not visible for username: " + username);
+            }
+        });
+        // Log out by dropping the session so the next iteration starts at the login page
+        driver.manage().deleteAllCookies();
+    }
+}
@@ -1,6 +1,6 @@
 package com.kunal.seleniumassignment.pages;
 
-import com.kunal.seleniumassignment.utils.ExcelUtils;
+import com.kunal.seleniumassignment.utils.ProfilingElementLocatorFactory;
 import com.kunal.seleniumassignment.utils.WaitUtility;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -10,13 +10,13 @@ import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
 import org.openqa.selenium.support.PageFactory;
 
-import java.io.IOException;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 
 public class ErailPage {
 	private static final Logger logger = LoggerFactory.getLogger(ErailPage.class);
+	private static final By DROPDOWN_OPTION = By.xpath("//div[@class='autocomplete']/div");
 	WebDriver driver;
 
 	@FindBy(id = "txtStationFrom")
@@ -39,7 +39,7 @@ public class ErailPage {
 
 	public ErailPage(WebDriver driver) {
 		this.driver = driver;
-		PageFactory.initElements(driver, this);
+		PageFactory.initElements(new ProfilingElementLocatorFactory(driver), this);
 		logger.info("ErailPage initialized.");
 	}
 
@@ -95,23 +95,32 @@ public class ErailPage {
 		}
 	}
 
-	public void writeDropdownDataToExcel(String filePath) throws IOException {
-		logger.info("Writing dropdown data to Excel file: {}", filePath);
-		try {
-			List<String> dropdownTexts = dropdownOptions.stream().map(option -> option.getDomAttribute("title")).toList();
-			ExcelUtils.writeDropdownDataToExcel(dropdownTexts, filePath);
-			logger.info("Dropdown data successfully written to Excel file: {}", filePath);
-		} catch (Exception e) {
-			logger.error("Unexpected error while writing dropdown data to Excel file: {}", filePath, e);
-			throw e;
+	/**
+	 * Enters a station code in the 'From' field and returns the titles of the
+	 * dropdown options it brings up. The titles left over from a previous code
+	 * must change first, so several codes can be scraped in one session; the
+	 * autocomplete may re-render its options or update them in place.
+	 *
+	 * @param stationCode the station code, e.g. "DEL"
+	 * @return the station names offered, in dropdown order
+	 */
+	public List<String> scrapeDropdownOptions(String stationCode) {
+		List<String> previousTitles = getDropdownOptionTitles();
+		enterFromStation(stationCode);
+		if (!previousTitles.isEmpty()
+				&& WaitUtility.waitForAttributesToChange(driver, DROPDOWN_OPTION, "title", previousTitles) == null) {
+			logger.error("Dropdown options were not replaced after entering station code: {}", stationCode);
+			throw new IllegalStateException("Dropdown still shows the options of the previous station code after entering: "
+					+ stationCode);
 		}
+		WaitUtility.waitForElementToBeVisible(driver, DROPDOWN_OPTION);
+		List<String> titles = getDropdownOptionTitles();
+		logger.info("Scraped {} dropdown options for station code: {}", titles.size(), stationCode);
+		return titles;
 	}
 
-	public boolean isStationPresentInExcel(String expectedStation, String filePath) throws IOException {
-		logger.info("Checking if station '{}' is present in Excel file: {}", expectedStation, filePath);
-		boolean isPresent = ExcelUtils.isStationPresentInExcel(expectedStation, filePath);
-		logger.info("Station '{}' presence in Excel file: {}", expectedStation, isPresent);
-		return isPresent;
+	public List<String> getDropdownOptionTitles() {
+		return dropdownOptions.stream().map(option -> option.getDomAttribute("title")).toList();
 	}
 
 	public String getSelectedDate() {
@@ -0,0 +1,31 @@
+package com.kunal.seleniumassignment.pages;
+
+/**
+ * Login page operations shared by the browser page object and the driver-less
+ * HTTP implementation, so tests can switch execution mode without changes.
+ */
+public interface LoginPage {
+
+	/**
+	 * Submits the login form with the given credentials.
+	 *
+	 * @param username the username to enter
+	 * @param password the password to enter
+	 */
+	void login(String username, String password);
+
+	/**
+	 * @return true if the dashboard is shown after login
+	 */
+	boolean isDashboardVisible();
+
+	/**
+	 * @return the login error message, e.g. "Invalid credentials"
+	 */
+	String getErrorMessage();
+
+	/**
+	 * @return the required-field validation message, e.g. "Required"
+	 */
+	String getRequiredFieldMessage();
+}
@@ -0,0 +1,142 @@
+package com.kunal.seleniumassignment.pages;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Driver-less OrangeHRM login page that performs the login form exchange over
+ * {@link HttpClient} with its own cookie jar and inspects the response instead
+ * of a rendered page. Suitable for checks that only depend on the server's
+ * answer to a set of credentials.
+ */
+public class OrangeHRMHttpLoginPage implements LoginPage {
+	private static final Logger logger = LoggerFactory.getLogger(OrangeHRMHttpLoginPage.class);
+	private static final Duration TIMEOUT = Duration.ofSeconds(10);
+	private static final String REQUIRED_MESSAGE = "Required";
+
+	// Stand-in pages carry the token in a hidden input, the live Vue page in a component attribute
+	private static final Pattern HIDDEN_TOKEN = Pattern.compile("name=\"_token\"\\s+value=\"([^\"]*)\"");
+	private static final Pattern VUE_TOKEN = Pattern.compile(":token=\"&quot;([^&]*)&quot;\"");
+	private static final Pattern ALERT_TEXT = Pattern.compile("oxd-alert-content-text\">([^<]+)<");
+	private static final Pattern VUE_ERROR = Pattern.compile("&quot;message&quot;:&quot;([^&]+)&quot;");
+
+	private final HttpClient client;
+	private final URI loginUri;
+	private String token;
+	private HttpResponse<String> lastResponse;
+	private String requiredFieldMessage;
+
+	private OrangeHRMHttpLoginPage(URI loginUri) {
+		this.loginUri = loginUri;
+		this.client = HttpClient.newBuilder().cookieHandler(new CookieManager())
+				.followRedirects(HttpClient.Redirect.NORMAL).connectTimeout(TIMEOUT).build();
+	}
+
+	/**
+	 * Loads the login page and reads its CSRF token.
+	 *
+	 * @param loginUrl the URL of the login page
+	 * @return the login page, ready for {@link #login(String, String)}
+	 */
+	public static OrangeHRMHttpLoginPage open(String loginUrl) {
+		OrangeHRMHttpLoginPage page = new OrangeHRMHttpLoginPage(URI.create(loginUrl));
+		page.lastResponse = page.send(HttpRequest.newBuilder(page.loginUri).timeout(TIMEOUT).GET().build());
+		page.token = page.find(HIDDEN_TOKEN, VUE_TOKEN);
+		logger.info("Opened login page over HTTP: {} (status {})", loginUrl, page.lastResponse.statusCode());
+		return page;
+	}
+
+	@Override
+	public void login(String username, String password) {
+		logger.info("Attempting HTTP login with username: {}", username);
+		// The real form validates empty fields in the browser and never submits them
+		if (username.isEmpty() || password.isEmpty()) {
+			requiredFieldMessage = REQUIRED_MESSAGE;
+			logger.debug("Login not submitted: required field is empty.");
+			return;
+		}
+		String form = "_token=" + encode(token == null ? "" : token) + "&username=" + encode(username)
+				+ "&password=" + encode(password);
+		HttpRequest request = HttpRequest.newBuilder(loginUri.resolve("validate")).timeout(TIMEOUT)
+				.header("Content-Type", "application/x-www-form-urlencoded")
+				.POST(HttpRequest.BodyPublishers.ofString(form)).build();
+		lastResponse = send(request);
+		logger.info("Submitted login form, landed on: {}", lastResponse.uri());
+	}
+
+	@Override
+	public boolean isDashboardVisible() {
+		boolean isVisible = requiredFieldMessage == null && lastResponse.statusCode() == 200
+				&& lastResponse.uri().getPath().contains("/dashboard");
+		if (isVisible) {
+			logger.info("Dashboard is visible.");
+		} else {
+			logger.warn("Dashboard is not visible.");
+		}
+		return isVisible;
+	}
+
+	@Override
+	public String getErrorMessage() {
+		String error = find(ALERT_TEXT, VUE_ERROR);
+		if (error == null) {
+			logger.error("Error message not found in response from: {}", lastResponse.uri());
+			throw new IllegalStateException("Error message not found in response from: " + lastResponse.uri());
+		}
+		logger.info("Retrieved error message: {}", error);
+		return error;
+	}
+
+	@Override
+	public String getRequiredFieldMessage() {
+		if (requiredFieldMessage == null) {
+			logger.error("Required field message not present: the form was submitted.");
+			throw new IllegalStateException("Required field message not present: the form was submitted.");
+		}
+		logger.info("Retrieved required field message: {}", requiredFieldMessage);
+		return requiredFieldMessage;
+	}
+
+	private HttpResponse<String> send(HttpRequest request) {
+		try {
+			HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+			// Server errors are transient failures of the exchange, not a page to inspect
+			if (response.statusCode() >= 500) {
+				throw new IOException("Server error " + response.statusCode());
+			}
+			return response;
+		} catch (IOException e) {
+			logger.error("HTTP request failed: {}", request.uri(), e);
+			throw new RuntimeException("HTTP request failed: " + request.uri(), e);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("Interrupted during HTTP request: " + request.uri(), e);
+		}
+	}
+
+	private String find(Pattern... patterns) {
+		for (Pattern pattern : patterns) {
+			Matcher matcher = pattern.matcher(lastResponse.body());
+			if (matcher.find()) {
+				return matcher.group(1).trim();
+			}
+		}
+		return null;
+	}
+
+	private static String encode(String value) {
+		return URLEncoder.encode(value, StandardCharsets.UTF_8);
+	}
+}
@@ -1,5 +1,6 @@
 package com.kunal.seleniumassignment.pages;
 
+import com.kunal.seleniumassignment.utils.ProfilingElementLocatorFactory;
 import com.kunal.seleniumassignment.utils.WaitUtility;
 
 import org.openqa.selenium.TimeoutException;
@@ -10,7 +11,7 @@ import org.openqa.selenium.support.PageFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-public class OrangeHRMLoginPage {
+public class OrangeHRMLoginPage implements LoginPage {
 	private WebDriver driver;
 	private static final Logger logger = LoggerFactory.getLogger(OrangeHRMLoginPage.class);
 
@@ -34,10 +35,11 @@ public class OrangeHRMLoginPage {
 
 	public OrangeHRMLoginPage(WebDriver driver) {
 		this.driver = driver;
-		PageFactory.initElements(driver, this);
+		PageFactory.initElements(new ProfilingElementLocatorFactory(driver), this);
 		logger.info("Initialized OrangeHRMLoginPage.");
 	}
 
+	@Override
 	public void login(String username, String password) {
 		logger.info("Attempting to log in with username: {} and password: {}", username, password);
 		try {
@@ -60,6 +62,7 @@ public class OrangeHRMLoginPage {
 		}
 	}
 
+	@Override
 	public boolean isDashboardVisible() {
 		try {
 			WaitUtility.waitForElementToBeVisible(driver, dashboardHeader);
@@ -83,6 +86,7 @@ public class OrangeHRMLoginPage {
 		}
 	}
 
+	@Override
 	public String getErrorMessage() {
 		try {
 			WaitUtility.waitForElementToBeVisible(driver, errorMessage);
@@ -95,6 +99,7 @@ public class OrangeHRMLoginPage {
 		}
 	}
 
+	@Override
 	public String getRequiredFieldMessage() {
 		try {
 			WaitUtility.waitForElementToBeVisible(driver, requiredFieldMessage);
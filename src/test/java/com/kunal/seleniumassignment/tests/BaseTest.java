@@ -3,47 +3,134 @@ package com.kunal.seleniumassignment.tests;
 import com.aventstack.extentreports.ExtentReports;
 import com.aventstack.extentreports.ExtentTest;
 import com.aventstack.extentreports.Status;
+import com.aventstack.extentreports.markuputils.MarkupHelper;
+import com.kunal.seleniumassignment.utils.BrowserLaunchMetrics;
+import com.kunal.seleniumassignment.utils.BrowserWatchdog;
+import com.kunal.seleniumassignment.utils.DataRowPruner;
 import com.kunal.seleniumassignment.utils.ExtentManagerUtil;
+import com.kunal.seleniumassignment.utils.IoExecutor;
+import com.kunal.seleniumassignment.utils.PageBudget;
+import com.kunal.seleniumassignment.utils.PageLoadUtil;
+import com.kunal.seleniumassignment.utils.PageMetrics;
+import com.kunal.seleniumassignment.utils.ResponseCache;
+import com.kunal.seleniumassignment.utils.RunMetrics;
+import com.kunal.seleniumassignment.utils.RunMetricsReport;
+import com.kunal.seleniumassignment.utils.StandInServer;
+import com.kunal.seleniumassignment.utils.StepLogger;
+import com.kunal.seleniumassignment.utils.WaitProfiler;
 import com.kunal.seleniumassignment.utils.WebDriverManagerUtil;
 import org.openqa.selenium.WebDriver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.testng.ITestResult;
 import org.testng.annotations.*;
 import org.testng.annotations.Listeners;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
 
 /**
  * BaseTest class provides common setup and teardown methods for tests,
  * including WebDriver initialization and ExtentReports configuration.
  */
-@Listeners(ExtentTestListener.class)
+@Listeners({ ExtentTestListener.class, TestSelection.class })
 public class BaseTest {
 
     protected WebDriver driver;
+    protected String browser;
     protected static ExtentReports extent;
     protected static ThreadLocal<ExtentTest> test = new ThreadLocal<>();
+    protected static String baseUrl;
     protected Logger logger;
+    protected StepLogger steps;
+    /** Browser, or "http" without one, and target of the running test, appended to its run metric names. */
+    private String metricsContext = "";
 
     /**
-     * Constructor initializes the logger for the child class.
+     * Constructor initializes the logger and the step logger for the child class.
      */
     public BaseTest() {
         this.logger = LoggerFactory.getLogger(this.getClass());
+        this.steps = new StepLogger(logger, test::get);
+    }
+
+    /**
+     * Chooses the sites under test. "live" uses the public websites, "standin"
+     * starts the embedded {@link StandInServer}, and any other value is used as
+     * the base URL of an already running stand-in.
+     *
+     * @param baseUrlParameter "live", "standin" or a base URL
+     * @param port             stand-in server port, 0 for any free port
+     * @param latencyMs        latency injected before every stand-in response
+     * @param bandwidthKbps    stand-in response bandwidth limit, 0 for unlimited
+     * @param errorRate        fraction of stand-in requests failing with HTTP 503
+     * @param seed             seed for the stand-in error injection
+     */
+    @BeforeSuite
+    @Parameters({ "baseUrl", "standInPort", "standInLatencyMs", "standInBandwidthKbps", "standInErrorRate",
+        "standInSeed" })
+    public void startSites(@Optional("live") String baseUrlParameter, @Optional("0") String port,
+        @Optional("0") String latencyMs, @Optional("0") String bandwidthKbps, @Optional("0") String errorRate,
+        @Optional("42") String seed) {
+        synchronized (BaseTest.class) {
+            if ("live".equalsIgnoreCase(baseUrlParameter)) {
+                baseUrl = null;
+            } else if ("standin".equalsIgnoreCase(baseUrlParameter)) {
+                baseUrl = StandInServer.start(Integer.parseInt(port), Long.parseLong(latencyMs),
+                    Long.parseLong(bandwidthKbps), Double.parseDouble(errorRate), Long.parseLong(seed)).getBaseUrl();
+            } else {
+                baseUrl = baseUrlParameter.replaceAll("/+$", "");
+            }
+            logger.info("Sites under test: {}", baseUrl == null ? "live" : baseUrl);
+        }
+    }
+
+    /**
+     * Configures the on-disk response cache that browsers attach to, see
+     * {@link ResponseCache}.
+     *
+     * @param mode       "off", "cache", "record" or "replay"
+     * @param directory  the cache directory
+     * @param ttlMinutes age after which a cached response is revalidated
+     * @param maxMb      size limit of the cache in MB
+     * @param urlPattern regular expression for the URLs to cache
+     */
+    @BeforeSuite
+    @Parameters({ "responseCache", "responseCacheDir", "responseCacheTtlMinutes", "responseCacheMaxMb",
+        "responseCachePattern" })
+    public void configureResponseCache(@Optional("off") String mode, @Optional(".response-cache") String directory,
+        @Optional("60") String ttlMinutes, @Optional("100") String maxMb,
+        @Optional("https?://([a-z0-9-]+\\.)*erail\\.in/.*") String urlPattern) {
+        ResponseCache.configure(mode, directory, Long.parseLong(ttlMinutes), Long.parseLong(maxMb), urlPattern);
+    }
+
+    /**
+     * Resolves the URL of a page for the sites chosen by the baseUrl parameter.
+     *
+     * @param liveUrl     the URL on the public website
+     * @param standInPath the path of the same page on the stand-in server
+     * @return the URL to open
+     */
+    protected static String resolveUrl(String liveUrl, String standInPath) {
+        return baseUrl == null ? liveUrl : baseUrl + standInPath;
     }
 
     /**
      * Setup method executed before the test class to initialize ExtentReports.
      *
      * @param browser the browser to be used for testing
+     * @param browserMatrix the browsers of a matrix run, see {@link BrowserMatrix}
      */
     @BeforeClass
-    @Parameters({ "browser" })
-    public void setup(@Optional("chrome") String browser) {
+    @Parameters({ "browser", "browserMatrix" })
+    public void setup(@Optional("chrome") String browser, @Optional("") String browserMatrix) {
         synchronized (BaseTest.class) {
             if (extent == null) {
                 String reportPath = System.getProperty("user.dir") + File.separator + "test-output" + File.separator + "SparkReport.html";
-                extent = ExtentManagerUtil.initializeExtentReports(reportPath, browser);
+                String browsers = browserMatrix.isBlank() ? browser : browserMatrix.replaceAll(":\\d+", "");
+                extent = ExtentManagerUtil.initializeExtentReports(reportPath, browsers);
                 logger.info("ExtentReports initialized. Report path: " + reportPath);
             }
         }
@@ -54,26 +141,129 @@ public class BaseTest {
      *
      * @param browser  the browser to be used for testing
      * @param headless whether the browser should run in headless mode (default: true)
+     * @param browserIsolation "process" for a browser per test, "context" for an
+     *                         isolated context in a shared browser (default: process)
+     * @param launchProfile the browser launch profile, e.g. "fast-headless" (default: default)
+     * @param testParameters the parameters of the upcoming invocation, injected by TestNG
      */
     @BeforeMethod
-    @Parameters({ "browser", "headless" })
-    public void beforeTest(@Optional("chrome") String browser, @Optional("true") String headless) {
-        // Initialize WebDriver using the utility method
-        driver = WebDriverManagerUtil.getDriver(browser, headless);
-        logger.info("Test started on browser: " + browser + " | Headless: " + headless);
-        
-        ExtentTest extentTest = extent.createTest(this.getClass().getSimpleName());
+    @Parameters({ "browser", "headless", "browserIsolation", "launchProfile" })
+    public void beforeTest(@Optional("chrome") String browser, @Optional("true") String headless,
+        @Optional("process") String browserIsolation, @Optional("default") String launchProfile,
+        Object[] testParameters) {
+        this.browser = browser;
+        if (needsBrowser(testParameters)) {
+            // Initialize WebDriver using the utility method
+            driver = WebDriverManagerUtil.getDriver(browser, headless, browserIsolation, launchProfile);
+            if (ResponseCache.getInstance() != null) {
+                ResponseCache.getInstance().attach(driver);
+            }
+            logger.info("Test started on browser: " + browser + " | Headless: " + headless + " | Isolation: "
+                + browserIsolation);
+        } else {
+            driver = null;
+            logger.info("Test started without a browser.");
+        }
+
+        // Keyed by browser so matrix runs can be told apart and grouped by device
+        ExtentTest extentTest = extent.createTest(this.getClass().getSimpleName() + " [" + browser + "]")
+            .assignDevice(browser);
         BaseTest.test.set(extentTest);
+        metricsContext = " on " + (driver != null ? browser : "http") + " (" + target() + ")";
+        steps.startTiming(metricsContext);
+        IoExecutor.openScope();
+    }
+
+    /**
+     * Collects the performance metrics of the page the driver has loaded,
+     * attaches them to the report and checks them against a budget. Exceeded
+     * limits fail the test or log a warning, depending on the budget.
+     *
+     * @param budget the budget of the current page
+     * @return the collected metrics
+     */
+    protected PageMetrics checkPagePerformance(PageBudget budget) {
+        PageMetrics metrics = PageLoadUtil.collectMetrics(driver);
+        metrics.getValues().forEach((metric, value) -> {
+            if (metric.isTiming()) {
+                RunMetrics.record(RunMetrics.PAGE, budget.getPage() + " " + metric.getLabel() + metricsContext, value);
+            }
+        });
+        List<String[]> table = new ArrayList<>();
+        table.add(new String[] { "Metric", "Value", "Budget" });
+        metrics.getValues().forEach((metric, value) -> {
+            Double limit = budget.getLimit(metric);
+            table.add(new String[] { metric.getLabel(), String.valueOf(Math.round(value)),
+                limit == null ? "" : String.valueOf(Math.round(limit)) });
+        });
+        if (test.get() != null) {
+            test.get().info(MarkupHelper.createTable(table.toArray(new String[0][])));
+        }
+
+        List<String> breaches = budget.breaches(metrics);
+        if (breaches.isEmpty()) {
+            steps.pass("{} is within its performance budget", budget.getPage());
+        } else if (budget.getSeverity() == PageBudget.Severity.FAIL) {
+            steps.fail("Performance budget exceeded: {}", breaches);
+            throw new AssertionError("Performance budget exceeded: " + breaches);
+        } else {
+            steps.warn("Performance budget exceeded: {}", breaches);
+        }
+        return metrics;
+    }
+
+    /**
+     * Names the sites the suite runs against, so timings of different targets
+     * are compared separately: "standin", "live", or "live, cache" and "live,
+     * replay" when the {@link ResponseCache} serves responses.
+     *
+     * @return the target
+     */
+    protected static String target() {
+        if (baseUrl != null) {
+            return "standin";
+        }
+        ResponseCache cache = ResponseCache.getInstance();
+        if (cache == null || cache.getMode() == ResponseCache.Mode.RECORD) {
+            return "live";
+        }
+        return "live, " + cache.getMode().name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Decides whether the upcoming test invocation needs a browser. Tests with a
+     * driver-less execution mode override this.
+     *
+     * @param testParameters the parameters of the upcoming invocation, e.g. a data row
+     * @return true if a WebDriver should be started
+     */
+    protected boolean needsBrowser(Object[] testParameters) {
+        return true;
     }
 
     /**
-     * AfterMethod teardown that runs after each test to close WebDriver.
+     * AfterMethod teardown that runs after each test to close WebDriver. When
+     * the {@link FlakeRetryAnalyzer} is about to retry the test, the browser is
+     * soft reset and kept for the retry instead. The duration of passed tests
+     * is recorded in {@link RunMetrics}. Background I/O the test started on the
+     * {@link IoExecutor} is awaited, or cancelled if the test did not pass.
+     *
+     * @param result the result of the test, injected by TestNG
      */
     @AfterMethod
-    public void afterTest() {
+    public void afterTest(ITestResult result) {
+        if (result.getStatus() == ITestResult.SUCCESS) {
+            RunMetrics.record(RunMetrics.TEST, FlakeStats.methodKey(result) + metricsContext,
+                result.getEndMillis() - result.getStartMillis());
+        }
+        IoExecutor.closeScope(result.getStatus() != ITestResult.SUCCESS);
         if (driver != null) {
-            WebDriverManagerUtil.quitDriver();
-            logger.info("Test completed. WebDriver closed.");
+            if (result.wasRetried() && WebDriverManagerUtil.softReset(driver)) {
+                logger.info("Test will be retried. WebDriver kept after a soft reset.");
+            } else {
+                WebDriverManagerUtil.quitDriver();
+                logger.info("Test completed. WebDriver closed.");
+            }
         }
         if (test.get() != null) {
             test.get().log(Status.INFO, "Test execution finished.");
@@ -82,14 +272,49 @@ public class BaseTest {
     }
 
     /**
-     * AfterSuite method to flush the ExtentReports after all tests have run.
+     * AfterSuite method to flush the ExtentReports, write the wait profile and
+     * store the run metrics after all tests have run. Timings that regressed
+     * against the previous runs are logged and reported.
      */
     @AfterSuite
     public void tearDown() {
+        WaitProfiler.writeReport(System.getProperty("user.dir") + File.separator + "test-output" + File.separator
+            + "WaitProfile.txt");
+        DataRowPruner.writeReport(System.getProperty("user.dir") + File.separator + "test-output" + File.separator
+            + "SkippedRows.txt");
+        for (String locator : WaitProfiler.findSlowXPathLocators()) {
+            logger.warn("Slow XPath locator: {}", locator);
+        }
+        String flakeSummary = FlakeStats.summary();
+        if (!flakeSummary.isEmpty()) {
+            logger.warn("Tests that failed at least once:\n{}", flakeSummary);
+        }
+        RunMetrics.flush(target());
+        List<RunMetricsReport.Regression> regressions = RunMetricsReport.findRegressions(RunMetrics.load(),
+            RunMetrics.runId(), RunMetricsReport.DEFAULT_WINDOW);
+        for (RunMetricsReport.Regression regression : regressions) {
+            logger.warn("Performance regression: {}", regression);
+        }
         if (extent != null) {
+            if (!regressions.isEmpty()) {
+                ExtentTest node = extent.createTest("Performance Regressions");
+                regressions.forEach(regression -> node.warning(regression.toString()));
+            }
+            FlakeStats.attachTo(extent);
+            DataRowPruner.attachTo(extent);
             ExtentManagerUtil.flushExtentReports(extent);
             logger.info("Test execution completed. Access the report at: " + System.getProperty("user.dir")
                 + File.separator + "test-output" + File.separator + "SparkReport.html");
         }
+        String launchSummary = BrowserLaunchMetrics.summary();
+        if (!launchSummary.isEmpty()) {
+            logger.info("Browser launch-to-ready times:\n{}", launchSummary);
+        }
+        if (ResponseCache.getInstance() != null) {
+            logger.info(ResponseCache.getInstance().summary());
+        }
+        WebDriverManagerUtil.quitSharedBrowsers();
+        BrowserWatchdog.sweep();
+        StandInServer.stop();
     }
 }
@@ -0,0 +1,103 @@
+package com.kunal.seleniumassignment.tests;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IAlterSuiteListener;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Fans every {@code <test>} of a suite out across the browsers of the
+ * {@code browserMatrix} suite parameter, e.g. {@code chrome:2,firefox:1}, and
+ * runs the copies concurrently.
+ *
+ * <p>The number after each browser is its pool size: the test's classes are
+ * spread over that many copies, each running in its own thread with its own
+ * browser. The {@code maxConcurrentBrowsers} suite parameter is the global
+ * budget, capping how many copies run at once across all browsers. Without a
+ * {@code browserMatrix} the suite runs unchanged.
+ *
+ * <p>Registered in {@code testng.xml}; TestNG only applies suite-altering
+ * listeners declared there.
+ */
+public class BrowserMatrix implements IAlterSuiteListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(BrowserMatrix.class);
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        for (XmlSuite suite : suites) {
+            String matrix = suite.getParameter("browserMatrix");
+            if (matrix == null || matrix.isBlank()) {
+                continue;
+            }
+            Map<String, Integer> pools = parse(matrix);
+            List<XmlTest> originals = new ArrayList<>(suite.getTests());
+            suite.getTests().clear();
+
+            int copies = 0;
+            for (XmlTest original : originals) {
+                for (Map.Entry<String, Integer> pool : pools.entrySet()) {
+                    copies += fanOut(suite, original, pool.getKey(), pool.getValue());
+                }
+            }
+            String budget = suite.getParameter("maxConcurrentBrowsers");
+            int threads = budget == null || budget.isBlank() ? copies : Math.min(copies, Integer.parseInt(budget.trim()));
+            suite.setParallel(XmlSuite.ParallelMode.TESTS);
+            suite.setThreadCount(Math.max(1, threads));
+            logger.info("Browser matrix {}: {} tests on {} threads", pools, copies, suite.getThreadCount());
+        }
+    }
+
+    /**
+     * Adds copies of one test for a browser, dealing its classes out round robin.
+     *
+     * @return the number of copies added
+     */
+    private static int fanOut(XmlSuite suite, XmlTest original, String browser, int poolSize) {
+        List<XmlClass> classes = original.getXmlClasses();
+        int copies = Math.max(1, Math.min(poolSize, classes.size()));
+        for (int copy = 0; copy < copies; copy++) {
+            XmlTest test = new XmlTest(suite);
+            test.setName(copies == 1 ? original.getName() + " [" + browser + "]"
+                : original.getName() + " [" + browser + " #" + (copy + 1) + "]");
+            Map<String, String> parameters = new HashMap<>(original.getLocalParameters());
+            parameters.put("browser", browser);
+            test.setParameters(parameters);
+            test.setIncludedGroups(original.getIncludedGroups());
+            test.setExcludedGroups(original.getExcludedGroups());
+            test.setPreserveOrder(original.getPreserveOrder());
+
+            List<XmlClass> share = new ArrayList<>();
+            for (int i = copy; i < classes.size(); i += copies) {
+                XmlClass source = classes.get(i);
+                XmlClass xmlClass = new XmlClass(source.getName(), share.size(), false);
+                xmlClass.setIncludedMethods(source.getIncludedMethods());
+                xmlClass.setExcludedMethods(source.getExcludedMethods());
+                share.add(xmlClass);
+            }
+            test.setXmlClasses(share);
+        }
+        return copies;
+    }
+
+    private static Map<String, Integer> parse(String matrix) {
+        Map<String, Integer> pools = new LinkedHashMap<>();
+        for (String entry : matrix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts[0].isBlank()) {
+                continue;
+            }
+            pools.put(parts[0].trim().toLowerCase(Locale.ROOT), parts.length > 1 ? Integer.parseInt(parts[1].trim()) : 1);
+        }
+        return pools;
+    }
+}
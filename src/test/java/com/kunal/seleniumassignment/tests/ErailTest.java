@@ -1,11 +1,20 @@
 package com.kunal.seleniumassignment.tests;
 
 import com.kunal.seleniumassignment.pages.ErailPage;
+import com.kunal.seleniumassignment.utils.ExcelUtils;
+import com.kunal.seleniumassignment.utils.IoExecutor;
+import com.kunal.seleniumassignment.utils.PageBudget;
 import com.kunal.seleniumassignment.utils.PageLoadUtil;
+import com.kunal.seleniumassignment.utils.PageMetrics;
+import com.kunal.seleniumassignment.utils.StationIndex;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
-import java.io.IOException;
+import java.io.File;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Future;
 
 /**
  * Test class for validating ERAIL website functionality. Includes tests for
@@ -14,75 +23,111 @@ import java.io.IOException;
 public class ErailTest extends BaseTest {
 
 	private static final String ERAIL_URL = "https://erail.in/";
-	private static final String DROPDOWN_EXCEL_FILE_PATH = System.getProperty("user.dir")
-			+ "/src/test/resources/DropdownData.xlsx";
+	private static final String ERAIL_STAND_IN_PATH = "/erail/";
 	private static final int DAYS_FROM_TODAY = 30;
 	private static final String EXPECTED_STATION = "New Delhi";
+	// Scraped in this order; 'DEL' comes last since its dropdown is used to select a station
+	private static final List<String> STATION_CODES = List.of("MMCT", "HWH", "MAS", "DEL");
+	// Titles of the stand-in's station list; the live site may name stations differently
+	private static final Map<String, List<String>> EXPECTED_STATIONS = Map.of(
+			"MMCT", List.of("Mumbai Central"),
+			"HWH", List.of("Howrah Jn"),
+			"MAS", List.of("Chennai Central"),
+			"DEL", List.of(EXPECTED_STATION));
 	private static final int POSITION = 4;
+	private static final PageBudget ERAIL_BUDGET = PageBudget.forPage("ERAIL home")
+			.limit(PageMetrics.Metric.TTFB, 1500)
+			.limit(PageMetrics.Metric.DOM_CONTENT_LOADED, 5000)
+			.limit(PageMetrics.Metric.LCP, 6000);
 
 	/**
 	 * Test method for validating dropdown functionality and date selection on the
 	 * ERAIL website.
 	 */
-	@Test(description = "Validates dropdown functionality and date selection on the ERAIL website")
-	public void testErailDropdownAndDateSelection() throws IOException {
-		test.get().info("Running the Erail Dropdown and Date Selection Test");
-
-		logger.info("Starting ERAIL dropdown and date selection test.");
+	@Test(retryAnalyzer = FlakeRetryAnalyzer.class, description = "Validates dropdown functionality and date selection on the ERAIL website")
+	public void testErailDropdownAndDateSelection() {
+		steps.info("Running the Erail Dropdown and Date Selection Test");
 
 		// Step 1: Navigate to the ERAIL website
-		driver.get(ERAIL_URL);
-		test.get().info("Opened ERAIL website: " + ERAIL_URL);
-		logger.info("Opened ERAIL website: " + ERAIL_URL);
+		String erailUrl = resolveUrl(ERAIL_URL, ERAIL_STAND_IN_PATH);
+		driver.get(erailUrl);
+		steps.info("Opened ERAIL website: {}", erailUrl);
 
 		// Step 2: Wait for the page to fully load
 		PageLoadUtil.waitForPageToLoad(driver, 10);
-		test.get().info("Page fully loaded");
-		logger.info("Page fully loaded.");
+		steps.info("Page fully loaded");
+		checkPagePerformance(ERAIL_BUDGET);
 
 		// Step 3: Initialize the page object
 		ErailPage erailPage = new ErailPage(driver);
 		logger.info("Initialized ErailPage object.");
 
-		// Step 4: Interact with the dropdown
-		interactWithDropdown(erailPage);
+		// Step 4: Interact with the dropdown; the Excel export runs in the background
+		Future<?> dropdownExport = interactWithDropdown(erailPage);
 
 		// Step 5: Select and verify the journey date
 		selectAndVerifyDate(erailPage);
 
+		// Step 6: Wait for the Excel export
+		IoExecutor.await(dropdownExport);
+		steps.pass("Dropdown options written to Excel file: {}", dropdownExcelFilePath());
+
 		// Test completion
-		test.get().pass("Erail dropdown and date selection test completed successfully.");
-		logger.info("Erail dropdown and date selection test completed successfully.");
+		steps.pass("Erail dropdown and date selection test completed successfully.");
 	}
 
 	/**
-	 * Handles dropdown interactions and verifies the results. Writes dropdown data
-	 * to Excel and verifies station presence in the file.
+	 * Handles dropdown interactions and verifies the results. Scrapes the
+	 * dropdown of every station code once into an in-memory index, verifies the
+	 * expected stations against it and starts writing the options to Excel on an
+	 * I/O thread, so the browser can move on to the next step meanwhile.
 	 *
 	 * @param erailPage the ErailPage object
-	 * @throws IOException if an I/O error occurs
+	 * @return the pending Excel export
 	 */
-	private void interactWithDropdown(ErailPage erailPage) throws IOException {
-		// Enter 'DEL' in the 'From' field
-		erailPage.enterFromStation("DEL");
-		test.get().info("Entered 'DEL' in 'From' field");
-		logger.info("Entered 'DEL' in 'From' field.");
+	private Future<?> interactWithDropdown(ErailPage erailPage) {
+		// Scrape the dropdown options of each station code in the 'From' field
+		StationIndex stations = new StationIndex();
+		for (String stationCode : STATION_CODES) {
+			stations.add(stationCode, erailPage.scrapeDropdownOptions(stationCode));
+		}
+		steps.info("Scraped {} dropdown options for station codes {}", stations.size(), STATION_CODES);
 
-		// Select the 4th station from the dropdown
+		// Select the 4th station from the dropdown of the last code, 'DEL'
 		erailPage.selectStationAtSpecificPosition(POSITION);
-		;
-		test.get().pass("Selected the 4th station from the dropdown");
-		logger.info("Selected the 4th station from the dropdown.");
-
-		// Write dropdown options to Excel
-		erailPage.writeDropdownDataToExcel(DROPDOWN_EXCEL_FILE_PATH);
-		test.get().pass("Dropdown options written to Excel file: " + DROPDOWN_EXCEL_FILE_PATH);
-		logger.info("Dropdown options written to Excel file: " + DROPDOWN_EXCEL_FILE_PATH);
-
-		// Verify if the expected station is present in the Excel file
-		erailPage.isStationPresentInExcel(EXPECTED_STATION, DROPDOWN_EXCEL_FILE_PATH);
-		test.get().pass("Verified the presence of station: " + EXPECTED_STATION);
-		logger.info("Verified the presence of station: " + EXPECTED_STATION);
+		steps.pass("Selected the 4th station from the dropdown");
+
+		// Write dropdown options to Excel as a side output
+		Map<String, List<String>> optionsByCode = stations.getOptionsByCode();
+		String excelFilePath = dropdownExcelFilePath();
+		Future<?> export = IoExecutor.submit("Writing " + excelFilePath, () -> {
+			ExcelUtils.writeDropdownDataToExcel(optionsByCode, excelFilePath);
+			return null;
+		});
+
+		// Verify the expected stations against the scraped options; only the
+		// stand-in's titles are known, so live runs report differences without failing
+		Map<String, List<String>> missing = stations.missing(EXPECTED_STATIONS);
+		if (baseUrl != null) {
+			Assert.assertTrue(missing.isEmpty(), "Expected stations missing from the dropdown: " + missing);
+			steps.pass("Verified the presence of stations: {}", EXPECTED_STATIONS);
+		} else if (missing.isEmpty()) {
+			steps.pass("Found the expected stations: {}", EXPECTED_STATIONS);
+		} else {
+			steps.warn("Stations not offered by the live dropdown: {}", missing);
+		}
+		return export;
+	}
+
+	/**
+	 * Returns the Excel export file of this test's browser. Matrix runs test
+	 * several browsers at once, so each writes a file of its own.
+	 *
+	 * @return the path under test-output, e.g. test-output/DropdownData-chrome.xlsx
+	 */
+	private String dropdownExcelFilePath() {
+		return System.getProperty("user.dir") + File.separator + "test-output" + File.separator + "DropdownData-"
+				+ browser.toLowerCase(Locale.ROOT) + ".xlsx";
 	}
 
 	/**
@@ -94,15 +139,13 @@ public class ErailTest extends BaseTest {
 		try {
 			// Select the journey date
 			erailPage.selectDate(DAYS_FROM_TODAY);
-			test.get().pass("Selected journey date " + DAYS_FROM_TODAY + " days from today");
-			logger.info("Selected journey date " + DAYS_FROM_TODAY + " days from today.");
+			steps.pass("Selected journey date {} days from today", DAYS_FROM_TODAY);
 
 			// Verify the selected date
 			String selectedDate = erailPage.getSelectedDate();
 			String expectedDate = erailPage.getExpectedDate(DAYS_FROM_TODAY);
 			Assert.assertEquals(selectedDate, expectedDate, "Date selection failed!");
-			test.get().pass("Verified the selected journey date: " + selectedDate);
-			logger.info("Verified the selected journey date: " + selectedDate);
+			steps.pass("Verified the selected journey date: {}", selectedDate);
 		} catch (Exception e) {
 			logger.error("Error during date selection and verification: ", e);
 			throw e;
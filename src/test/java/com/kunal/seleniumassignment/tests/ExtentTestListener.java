@@ -15,19 +15,30 @@ public class ExtentTestListener implements ITestListener {
 
     @Override
     public void onTestSuccess(ITestResult result) {
+        FlakeStats.recordSuccess(result);
         // ExtentTest test = BaseTest.test.get();
         // test.log(Status.PASS, "Test passed: " + result.getMethod().getMethodName());
     }
 
     @Override
     public void onTestFailure(ITestResult result) {
+        FlakeStats.recordFailure(result);
         ExtentTest test = BaseTest.test.get();
-        test.fail(result.getThrowable()); // Log the failure with the throwable
+        // A failing data provider fails the test before its report node exists
+        if (test != null) {
+            test.fail(result.getThrowable()); // Log the failure with the throwable
+        }
     }
 
     @Override
     public void onTestSkipped(ITestResult result) {
         ExtentTest test = BaseTest.test.get();
+        if (result.wasRetried()) {
+            // A failed attempt that the retry analyzer will run again
+            FlakeStats.recordFailure(result);
+            test.log(Status.WARNING, result.getThrowable());
+            return;
+        }
         test.log(Status.SKIP, "Test skipped: " + result.getMethod().getMethodName());
     }
 }
@@ -0,0 +1,114 @@
+package com.kunal.seleniumassignment.tests;
+
+import com.aventstack.extentreports.ExtentTest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IRetryAnalyzer;
+import org.testng.ITestResult;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Retries a failed test invocation when its failure matches a retry rule and
+ * the suite still has retry budget left. Retries run in the same browser after
+ * a soft reset, see {@link BaseTest#afterTest(ITestResult)}.
+ *
+ * <p>Rules come from the {@code retryRules} parameter as a comma-separated list
+ * of {@code <exception class>:<max retries>}; the first rule whose exception
+ * appears anywhere in the failure's cause chain applies. Failures matching no
+ * rule, such as assertion errors, are never retried. The {@code retryBudget}
+ * parameter caps the number of retries across the whole suite.
+ */
+public class FlakeRetryAnalyzer implements IRetryAnalyzer {
+
+    static final String DEFAULT_RULES = "org.openqa.selenium.TimeoutException:2,"
+        + "org.openqa.selenium.StaleElementReferenceException:2,"
+        + "org.openqa.selenium.ElementClickInterceptedException:1,"
+        + "org.openqa.selenium.NoSuchElementException:1,"
+        + "java.io.IOException:1";
+    static final int DEFAULT_BUDGET = 5;
+
+    private static final Logger logger = LoggerFactory.getLogger(FlakeRetryAnalyzer.class);
+    private static final Map<String, Map<Class<?>, Integer>> parsedRules = new ConcurrentHashMap<>();
+    private static final Map<String, AtomicInteger> remainingBudget = new ConcurrentHashMap<>();
+    private static final Map<String, AtomicInteger> retries = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean retry(ITestResult result) {
+        String key = FlakeStats.key(result);
+        Throwable failure = result.getThrowable();
+        Map.Entry<Class<?>, Integer> rule = findRule(failure, rules(result));
+        if (rule == null) {
+            return false;
+        }
+
+        AtomicInteger done = retries.computeIfAbsent(key, k -> new AtomicInteger());
+        if (done.get() >= rule.getValue()) {
+            logger.info("{} failed again with {}; no retries left", key, rule.getKey().getSimpleName());
+            return false;
+        }
+        String suite = result.getTestContext().getSuite().getName();
+        AtomicInteger budget = remainingBudget.computeIfAbsent(suite,
+            s -> new AtomicInteger(parameter(result, "retryBudget", DEFAULT_BUDGET)));
+        if (budget.getAndUpdate(left -> left > 0 ? left - 1 : left) <= 0) {
+            logger.warn("Retry budget of suite {} is used up; not retrying {}", suite, key);
+            return false;
+        }
+
+        int attempt = done.incrementAndGet();
+        logger.warn("Retrying {} after {} (retry {} of {}, {} left in suite budget)", key,
+            rule.getKey().getSimpleName(), attempt, rule.getValue(), budget.get());
+        ExtentTest node = BaseTest.test.get();
+        if (node != null) {
+            node.warning("Retrying after " + rule.getKey().getSimpleName() + " (retry " + attempt + " of "
+                + rule.getValue() + ") in the same browser");
+        }
+        return true;
+    }
+
+    /**
+     * Finds the first rule whose exception type occurs in the cause chain.
+     */
+    private static Map.Entry<Class<?>, Integer> findRule(Throwable failure, Map<Class<?>, Integer> rules) {
+        for (Map.Entry<Class<?>, Integer> rule : rules.entrySet()) {
+            for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+                if (rule.getKey().isInstance(cause)) {
+                    return rule;
+                }
+                if (cause.getCause() == cause) {
+                    break;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static Map<Class<?>, Integer> rules(ITestResult result) {
+        String spec = result.getTestContext().getCurrentXmlTest().getParameter("retryRules");
+        return parsedRules.computeIfAbsent(spec == null ? DEFAULT_RULES : spec, FlakeRetryAnalyzer::parseRules);
+    }
+
+    private static Map<Class<?>, Integer> parseRules(String spec) {
+        Map<Class<?>, Integer> rules = new LinkedHashMap<>();
+        for (String entry : spec.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                continue;
+            }
+            try {
+                rules.put(Class.forName(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+            } catch (ClassNotFoundException | NumberFormatException e) {
+                logger.warn("Ignoring invalid retry rule: {}", entry, e);
+            }
+        }
+        return rules;
+    }
+
+    private static int parameter(ITestResult result, String name, int defaultValue) {
+        String value = result.getTestContext().getCurrentXmlTest().getParameter(name);
+        return value == null ? defaultValue : Integer.parseInt(value.trim());
+    }
+}
@@ -0,0 +1,128 @@
+package com.kunal.seleniumassignment.tests;
+
+import com.aventstack.extentreports.ExtentReports;
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.markuputils.MarkupHelper;
+import org.testng.ITestResult;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Counts attempts and failures per test method and data row, so flaky rows
+ * (failed, then passed on a retry) can be told apart from real failures.
+ */
+public class FlakeStats {
+
+    private static final Map<String, Row> rows = new ConcurrentSkipListMap<>();
+    private static boolean reported;
+
+    private FlakeStats() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * @param result a test result
+     * @return the test method, data row and browser of the result,
+     *         e.g. "OrangeHRMTest.testLogin[Admin, admin123, ] on chrome"
+     */
+    public static String key(ITestResult result) {
+        StringBuilder key = new StringBuilder(methodKey(result));
+        String browser = result.getTestContext().getCurrentXmlTest().getParameter("browser");
+        if (browser != null) {
+            key.append(" on ").append(browser);
+        }
+        return key.toString();
+    }
+
+    /**
+     * @param result a test result
+     * @return the test method and data row of the result,
+     *         e.g. "OrangeHRMTest.testLogin[Admin, admin123, ]"
+     */
+    public static String methodKey(ITestResult result) {
+        Object[] parameters = result.getParameters();
+        StringBuilder key = new StringBuilder(result.getTestClass().getRealClass().getSimpleName())
+            .append('.').append(result.getMethod().getMethodName());
+        if (parameters != null && parameters.length > 0) {
+            key.append(Arrays.toString(parameters));
+        }
+        return key.toString();
+    }
+
+    public static void recordSuccess(ITestResult result) {
+        rows.computeIfAbsent(key(result), k -> new Row()).record(true, null);
+    }
+
+    public static void recordFailure(ITestResult result) {
+        rows.computeIfAbsent(key(result), k -> new Row()).record(false, result.getThrowable());
+    }
+
+    /**
+     * Adds a "Flake Statistics" node listing every row that failed at least
+     * once. Only the first call adds the node.
+     *
+     * @param extent the report
+     */
+    public static synchronized void attachTo(ExtentReports extent) {
+        List<String[]> table = new ArrayList<>();
+        table.add(new String[] { "Test", "Attempts", "Failures", "Outcome", "Failures seen" });
+        for (Map.Entry<String, Row> entry : rows.entrySet()) {
+            Row row = entry.getValue();
+            if (row.failures > 0) {
+                table.add(new String[] { entry.getKey(), String.valueOf(row.attempts), String.valueOf(row.failures),
+                    row.passed ? "Flaky" : "Failed", String.join(", ", row.exceptions) });
+            }
+        }
+        if (reported || table.size() == 1) {
+            return;
+        }
+        reported = true;
+        ExtentTest node = extent.createTest("Flake Statistics");
+        node.info(MarkupHelper.createTable(table.toArray(new String[0][])));
+    }
+
+    /**
+     * @return one line per row that failed at least once, empty if none did
+     */
+    public static String summary() {
+        StringBuilder summary = new StringBuilder();
+        for (Map.Entry<String, Row> entry : rows.entrySet()) {
+            Row row = entry.getValue();
+            if (row.failures > 0) {
+                summary.append(String.format("%-60s %s after %d attempt(s), failures: %s%n", entry.getKey(),
+                    row.passed ? "flaky, passed" : "failed", row.attempts, String.join(", ", row.exceptions)));
+            }
+        }
+        return summary.toString();
+    }
+
+    private static final class Row {
+        private int attempts;
+        private int failures;
+        private boolean passed;
+        private final Set<String> exceptions = new TreeSet<>();
+
+        synchronized void record(boolean success, Throwable failure) {
+            attempts++;
+            if (success) {
+                passed = true;
+            } else {
+                failures++;
+                // Wrappers such as "Element not visible" hide the type that caused the failure
+                Throwable cause = failure;
+                while (cause != null && cause.getCause() != null && cause.getCause() != cause) {
+                    cause = cause.getCause();
+                }
+                if (cause != null) {
+                    exceptions.add(cause.getClass().getSimpleName());
+                }
+            }
+        }
+    }
+}
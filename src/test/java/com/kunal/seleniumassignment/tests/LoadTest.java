@@ -0,0 +1,113 @@
+package com.kunal.seleniumassignment.tests;
+
+import com.kunal.seleniumassignment.load.BrowserPool;
+import com.kunal.seleniumassignment.load.ErailSearchScenario;
+import com.kunal.seleniumassignment.load.LoadRunner;
+import com.kunal.seleniumassignment.load.LoadScenario;
+import com.kunal.seleniumassignment.load.OrangeHRMLoginScenario;
+import com.kunal.seleniumassignment.utils.OrangeHRMCredentials;
+import com.kunal.seleniumassignment.utils.StandInServer;
+import com.kunal.seleniumassignment.utils.WebDriverManagerUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.ITestContext;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Optional;
+import org.testng.annotations.Parameters;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Duration;
+
+/**
+ * Load mode: drives concurrent virtual users through the existing page-object
+ * flows and reports throughput and latency percentiles per step. Run it with
+ * {@code mvn test -Dsurefire.suiteXmlFiles=testng-load.xml}.
+ */
+public class LoadTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadTest.class);
+    private static final String ORANGE_HRM_URL = "https://opensource-demo.orangehrmlive.com/web/index.php/auth/login";
+    private static final String ERAIL_URL = "https://erail.in/";
+    private static final String REPORT_PATH = System.getProperty("user.dir") + File.separator + "test-output"
+            + File.separator + "LoadReport.txt";
+
+    /**
+     * Runs the configured scenario under load.
+     *
+     * @param scenarioName     "orangehrm" or "erail"
+     * @param browser          the browser to pool
+     * @param virtualUsers     number of concurrent simulated users
+     * @param poolSize         maximum number of browsers open at once
+     * @param durationSeconds  maximum run time in seconds
+     * @param iterationsPerUser iterations per user, 0 to run for the full duration
+     * @param baseUrl          "live", "standin" or the base URL of a stand-in or staging instance
+     * @param launchProfile    the browser launch profile for pooled browsers
+     * @param context          the test context, injected by TestNG, for the stand-in network parameters
+     */
+    @Test(description = "Drives concurrent virtual users through the page-object flows")
+    @Parameters({ "loadScenario", "browser", "virtualUsers", "browserPoolSize", "loadDurationSeconds",
+            "loadIterations", "baseUrl", "launchProfile" })
+    public void runLoad(@Optional("orangehrm") String scenarioName, @Optional("chrome") String browser,
+            @Optional("4") String virtualUsers, @Optional("4") String poolSize,
+            @Optional("60") String durationSeconds, @Optional("0") String iterationsPerUser,
+            @Optional("live") String baseUrl, @Optional("fast-headless") String launchProfile, ITestContext context)
+            throws IOException {
+        String siteBase = resolveBaseUrl(baseUrl, context);
+        LoadScenario scenario = createScenario(scenarioName, siteBase);
+
+        try (BrowserPool pool = new BrowserPool(Integer.parseInt(poolSize),
+                () -> WebDriverManagerUtil.createDriver(browser, "true", launchProfile))) {
+            String report = new LoadRunner(pool, Integer.parseInt(virtualUsers)).run(scenario,
+                    Duration.ofSeconds(Long.parseLong(durationSeconds)), Integer.parseInt(iterationsPerUser));
+            Files.createDirectories(Paths.get(REPORT_PATH).getParent());
+            Files.write(Paths.get(REPORT_PATH), report.getBytes(StandardCharsets.UTF_8));
+            logger.info("Load report written to: {}", REPORT_PATH);
+        }
+    }
+
+    @AfterClass
+    public void stopStandIn() {
+        StandInServer.stop();
+    }
+
+    /**
+     * Starts the stand-in with the latency, bandwidth and error rate of the
+     * same suite parameters as {@link BaseTest#startSites}, so load runs can
+     * model network conditions.
+     */
+    private static String resolveBaseUrl(String baseUrl, ITestContext context) {
+        if ("live".equalsIgnoreCase(baseUrl)) {
+            return null;
+        }
+        if ("standin".equalsIgnoreCase(baseUrl)) {
+            return StandInServer.start(Integer.parseInt(parameter(context, "standInPort", "0")),
+                    Long.parseLong(parameter(context, "standInLatencyMs", "0")),
+                    Long.parseLong(parameter(context, "standInBandwidthKbps", "0")),
+                    Double.parseDouble(parameter(context, "standInErrorRate", "0")),
+                    Long.parseLong(parameter(context, "standInSeed", "42"))).getBaseUrl();
+        }
+        return baseUrl.replaceAll("/+$", "");
+    }
+
+    private static String parameter(ITestContext context, String name, String defaultValue) {
+        String value = context.getCurrentXmlTest().getParameter(name);
+        return value == null || value.isBlank() ? defaultValue : value.trim();
+    }
+
+    private static LoadScenario createScenario(String scenarioName, String siteBase) {
+        if (scenarioName.equalsIgnoreCase("orangehrm")) {
+            String url = siteBase == null ? ORANGE_HRM_URL : siteBase + "/orangehrm/auth/login";
+            return new OrangeHRMLoginScenario(url, OrangeHRMCredentials.USERNAME, OrangeHRMCredentials.PASSWORD);
+        } else if (scenarioName.equalsIgnoreCase("erail")) {
+            String url = siteBase == null ? ERAIL_URL : siteBase + "/erail/";
+            return new ErailSearchScenario(url, "DEL", 4, 30);
+        }
+        logger.error("Unsupported load scenario: {}", scenarioName);
+        throw new IllegalArgumentException("Unsupported load scenario: " + scenarioName);
+    }
+}
@@ -1,56 +1,154 @@
 package com.kunal.seleniumassignment.tests;
 
+import com.kunal.seleniumassignment.pages.LoginPage;
+import com.kunal.seleniumassignment.pages.OrangeHRMHttpLoginPage;
 import com.kunal.seleniumassignment.pages.OrangeHRMLoginPage;
+import com.kunal.seleniumassignment.utils.DataRowPruner;
 import com.kunal.seleniumassignment.utils.ExcelUtils;
+import com.kunal.seleniumassignment.utils.OrangeHRMCredentials;
+import com.kunal.seleniumassignment.utils.PageBudget;
 import com.kunal.seleniumassignment.utils.PageLoadUtil;
+import com.kunal.seleniumassignment.utils.PageMetrics;
 import org.testng.Assert;
+import org.testng.ITestContext;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeSuite;
 import org.testng.annotations.DataProvider;
+import org.testng.annotations.Optional;
+import org.testng.annotations.Parameters;
 import org.testng.annotations.Test;
 
+import java.util.LinkedHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
 /**
  * Test class for validating login functionality on the OrangeHRM website.
+ * Rows run in a real browser or, in "http" execution mode, over a plain HTTP
+ * client. The mode comes from the optional "Mode" column of a data row, falling
+ * back to the executionMode parameter.
  */
 public class OrangeHRMTest extends BaseTest {
 
     private static final String ORANGE_HRM_URL = "https://opensource-demo.orangehrmlive.com/web/index.php/auth/login";
+    private static final String ORANGE_HRM_STAND_IN_PATH = "/orangehrm/auth/login";
     private static final String LOGIN_DATA_EXCEL_FILENAME = "loginData.xlsx";
+    private static final String HTTP_MODE = "http";
+    private static final PageBudget LOGIN_PAGE_BUDGET = PageBudget.forPage("OrangeHRM login")
+        .limit(PageMetrics.Metric.TTFB, 1500)
+        .limit(PageMetrics.Metric.DOM_CONTENT_LOADED, 5000)
+        .limit(PageMetrics.Metric.LCP, 6000);
 
-    private OrangeHRMLoginPage loginPage;
+    private LoginPage loginPage;
+    private String defaultExecutionMode = "browser";
 
-    @DataProvider(name = "loginData")
-    public Object[][] getLoginData() {
-        return ExcelUtils.readLoginData(LOGIN_DATA_EXCEL_FILENAME);
+    /**
+     * Starts reading the login data in the background while the suite sets up.
+     */
+    @BeforeSuite
+    public void prefetchLoginData() {
+        ExcelUtils.prefetchLoginData(LOGIN_DATA_EXCEL_FILENAME);
     }
 
-    @Test(dataProvider = "loginData", description = "Validates login functionality with various credentials")
-    public void testLogin(String username, String password) {
-        test.get().info("Login Test for Username: " + username);
+    /**
+     * Reads the default execution mode for rows without a "Mode" column value.
+     *
+     * @param executionMode "browser" or "http"
+     */
+    @BeforeClass
+    @Parameters({ "executionMode" })
+    public void configureExecutionMode(@Optional("browser") String executionMode) {
+        defaultExecutionMode = executionMode;
+        logger.info("Default execution mode: {}", executionMode);
+    }
 
-        logger.info("Starting login test for username: " + username);
+    @Override
+    protected boolean needsBrowser(Object[] testParameters) {
+        return !isHttpMode(testParameters.length > 2 ? (String) testParameters[2] : "");
+    }
 
-        // Step 1: Navigate to the login page
-        driver.get(ORANGE_HRM_URL);
-        test.get().info("Opened OrangeHRM login page: " + ORANGE_HRM_URL);
-        logger.info("Opened OrangeHRM login page: " + ORANGE_HRM_URL);
+    /**
+     * Reads the login rows, dropping duplicates and, with the dataRowMode
+     * parameter set to "fast", all but dataRowSamplePerClass rows per outcome
+     * class and execution mode.
+     *
+     * @param context the test context, injected by TestNG
+     * @return the rows to run
+     */
+    @DataProvider(name = "loginData")
+    public Object[][] getLoginData(ITestContext context) {
+        LinkedHashMap<String, Predicate<Object[]>> outcomes = new LinkedHashMap<>();
+        outcomes.put("empty field", row -> ((String) row[0]).isEmpty() || ((String) row[1]).isEmpty());
+        // Rows the site logs in, so validateLoginResult expects the dashboard
+        outcomes.put("valid credentials", row -> OrangeHRMCredentials.isValid((String) row[0], (String) row[1]));
+        outcomes.put("invalid credentials", row -> true);
+        Function<Object[], String> outcome = DataRowPruner.firstMatching(outcomes);
+
+        String mode = context.getCurrentXmlTest().getParameter("dataRowMode");
+        String sample = context.getCurrentXmlTest().getParameter("dataRowSamplePerClass");
+        return new DataRowPruner(LOGIN_DATA_EXCEL_FILENAME,
+            row -> outcome.apply(row) + (isHttpMode((String) row[2]) ? " over http" : " in browser"))
+            .select(ExcelUtils.readLoginData(LOGIN_DATA_EXCEL_FILENAME),
+                mode == null ? DataRowPruner.EXHAUSTIVE : mode, parseSamplePerClass(sample));
+    }
+
+    /**
+     * @param sample the dataRowSamplePerClass parameter, null if not set
+     * @return the number of rows to keep per outcome class, at least 1
+     */
+    private static int parseSamplePerClass(String sample) {
+        if (sample == null) {
+            return 1;
+        }
+        int perClass;
+        try {
+            perClass = Integer.parseInt(sample.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("dataRowSamplePerClass must be a whole number, got: " + sample, e);
+        }
+        if (perClass < 1) {
+            throw new IllegalArgumentException("dataRowSamplePerClass must be at least 1, got: " + sample);
+        }
+        return perClass;
+    }
 
-        // Step 2: Wait for the page to fully load
-        PageLoadUtil.waitForPageToLoad(driver, 10);
-        test.get().info("Page fully loaded");
-        logger.info("Page fully loaded.");
+    @Test(dataProvider = "loginData", retryAnalyzer = FlakeRetryAnalyzer.class, description = "Validates login functionality with various credentials")
+    public void testLogin(String username, String password, String mode) {
+        steps.info("Login Test for Username: {}", username);
 
-        // Step 3: Initialize the login page object
-        loginPage = new OrangeHRMLoginPage(driver);
-        logger.info("Initialized OrangeHRMLoginPage object.");
+        String loginUrl = resolveUrl(ORANGE_HRM_URL, ORANGE_HRM_STAND_IN_PATH);
+        if (isHttpMode(mode)) {
+            // Steps 1-3: Load the login page over HTTP, no browser involved
+            loginPage = OrangeHRMHttpLoginPage.open(loginUrl);
+            steps.info("Opened OrangeHRM login page over HTTP: {}", loginUrl);
+        } else {
+            // Step 1: Navigate to the login page
+            driver.get(loginUrl);
+            steps.info("Opened OrangeHRM login page: {}", loginUrl);
+
+            // Step 2: Wait for the page to fully load
+            PageLoadUtil.waitForPageToLoad(driver, 10);
+            steps.info("Page fully loaded");
+            checkPagePerformance(LOGIN_PAGE_BUDGET);
+
+            // Step 3: Initialize the login page object
+            loginPage = new OrangeHRMLoginPage(driver);
+            logger.info("Initialized OrangeHRMLoginPage object.");
+        }
 
         // Step 4: Perform login
         loginPage.login(username, password);
-        test.get().info(String.format("Attempted login with username: %s and password: %s", username, password));
-        logger.info("Attempted login with username: {} and password: {}",username,password);
+        steps.info("Attempted login with username: {} and password: {}", username, password);
 
         // Step 5: Validate login results
         validateLoginResult(username, password);
     }
 
+    private boolean isHttpMode(String rowMode) {
+        String mode = rowMode == null || rowMode.isEmpty() ? defaultExecutionMode : rowMode;
+        return HTTP_MODE.equalsIgnoreCase(mode.trim());
+    }
+
     /**
      * Validates the login result based on the provided credentials.
      *
@@ -73,8 +171,7 @@ public class OrangeHRMTest extends BaseTest {
     private void validateEmptyFieldsError() {
         String requiredMessage = loginPage.getRequiredFieldMessage();
         Assert.assertEquals(requiredMessage, "Required", "Error message for empty fields does not match.");
-        test.get().fail("Login failed due to empty fields. Required message displayed.");
-        logger.error("Login failed due to empty fields. Required message displayed.");
+        steps.fail("Login failed due to empty fields. Required message displayed.");
     }
 
     /**
@@ -83,8 +180,7 @@ public class OrangeHRMTest extends BaseTest {
      * @param username the username used for login
      */
     private void validateSuccessfulLogin(String username) {
-        test.get().pass("Login successful for username: " + username);
-        logger.info("Login successful for username: " + username);
+        steps.pass("Login successful for username: {}", username);
         Assert.assertTrue(true, "Dashboard is visible, login successful.");
     }
 
@@ -96,7 +192,6 @@ public class OrangeHRMTest extends BaseTest {
     private void validateFailedLogin(String username) {
         String errorMessage = loginPage.getErrorMessage();
         Assert.assertEquals(errorMessage, "Invalid credentials", "Error message for failed login does not match.");
-        test.get().fail("Login failed for username: " + username + ". Error message: " + errorMessage);
-        logger.error("Login failed for username: " + username + ". Error message: " + errorMessage);
+        steps.fail("Login failed for username: {}. Error message: {}", username, errorMessage);
     }
 }
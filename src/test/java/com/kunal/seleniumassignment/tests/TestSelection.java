@@ -0,0 +1,297 @@
+package com.kunal.seleniumassignment.tests;
+
+import com.kunal.seleniumassignment.utils.TestImpact;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ITestContext;
+import org.testng.ITestListener;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Change-aware test selection. Every run records, per test method, browser
+ * and target site ({@code baseUrl}), the hashes of the inputs it depends on
+ * and whether it passed: the sources of the project classes its test class
+ * reaches (page objects, utilities, the base test), the data files it read
+ * and, against the stand-in, the stand-in's page fixtures. With the
+ * {@code testSelection} parameter set to "changed", tests whose inputs are
+ * unchanged and that passed last time are left out of the run. A full run is
+ * forced once the last one is older than {@code fullRunHours}.
+ */
+public class TestSelection implements IMethodInterceptor, ITestListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(TestSelection.class);
+    private static final String PROJECT_PACKAGE = "com/kunal/seleniumassignment/";
+    private static final Pattern CLASS_REFERENCE = Pattern.compile(PROJECT_PACKAGE + "[A-Za-z0-9_/$]+");
+    private static final List<String> SOURCE_ROOTS = List.of("src/test/java", "src/main/java");
+    private static final Path STAND_IN_FIXTURES = Paths.get("src/test/resources/standin");
+    private static final String STAND_IN = "standin";
+    private static final String PASSED = "PASS";
+    private static final String FAILED = "FAIL";
+
+    private static Properties state;
+    private static Path stateFile;
+    private static boolean skippedAny;
+    private static final Map<String, String> statuses = new ConcurrentHashMap<>();
+    private static final Map<String, String> testClasses = new ConcurrentHashMap<>();
+    private static final Set<String> standInKeys = ConcurrentHashMap.newKeySet();
+    private static final Map<String, String> fileHashes = new ConcurrentHashMap<>();
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        String mode = parameter(context, "testSelection", "all");
+        Properties previous = load(Paths.get(parameter(context, "testSelectionState", ".test-selection/state.properties")));
+        if (!"changed".equalsIgnoreCase(mode)) {
+            return methods;
+        }
+        long fullRunMillis = (long) (Double.parseDouble(parameter(context, "fullRunHours", "24")) * 3_600_000);
+        long lastFullRun = Long.parseLong(previous.getProperty("lastFullRun", "0"));
+        if (System.currentTimeMillis() - lastFullRun >= fullRunMillis) {
+            logger.info("Last full run is older than {} hours; running all tests",
+                parameter(context, "fullRunHours", "24"));
+            return methods;
+        }
+
+        List<IMethodInstance> selected = new ArrayList<>();
+        for (IMethodInstance instance : methods) {
+            String key = key(instance.getMethod(), context);
+            String reason = reasonToRun(key, previous);
+            if (reason == null) {
+                logger.info("Skipping {}: inputs unchanged since it last passed", key);
+                synchronized (TestSelection.class) {
+                    skippedAny = true;
+                }
+            } else {
+                logger.info("Selecting {}: {}", key, reason);
+                selected.add(instance);
+            }
+        }
+        return selected;
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        record(result, PASSED);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        record(result, FAILED);
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        // A failed attempt the retry analyzer runs again is settled by the retry
+        if (!result.wasRetried()) {
+            record(result, FAILED);
+        }
+    }
+
+    /**
+     * Stores the inputs and outcome of every test that ran in this {@code <test>}.
+     */
+    @Override
+    public void onFinish(ITestContext context) {
+        synchronized (TestSelection.class) {
+            if (state == null) {
+                return;
+            }
+            // Tests may have rewritten their data files since selection hashed them
+            fileHashes.clear();
+            for (Map.Entry<String, String> entry : statuses.entrySet()) {
+                String key = entry.getKey();
+                StringBuilder inputs = new StringBuilder();
+                for (Path input : inputsOf(testClasses.get(key), standInKeys.contains(key))) {
+                    String hash = hash(input);
+                    if (hash != null) {
+                        inputs.append(inputs.length() == 0 ? "" : ";").append(relative(input)).append('=').append(hash);
+                    }
+                }
+                state.setProperty(key + ".status", entry.getValue());
+                state.setProperty(key + ".inputs", inputs.toString());
+            }
+            if (!skippedAny) {
+                state.setProperty("lastFullRun", String.valueOf(System.currentTimeMillis()));
+            }
+            save();
+        }
+    }
+
+    private static void record(ITestResult result, String status) {
+        String key = key(result.getMethod(), result.getTestContext());
+        testClasses.put(key, result.getTestClass().getRealClass().getName());
+        if (STAND_IN.equalsIgnoreCase(target(result.getTestContext()))) {
+            standInKeys.add(key);
+        }
+        // One failing data row fails the whole method
+        statuses.merge(key, status, (previous, current) -> FAILED.equals(previous) ? previous : current);
+    }
+
+    /**
+     * @return why the test has to run, or null if it can be skipped
+     */
+    private static String reasonToRun(String key, Properties previous) {
+        if (!PASSED.equals(previous.getProperty(key + ".status"))) {
+            return previous.containsKey(key + ".status") ? "failed last time" : "no previous run recorded";
+        }
+        String inputs = previous.getProperty(key + ".inputs", "");
+        if (inputs.isEmpty()) {
+            return "no inputs recorded";
+        }
+        for (String input : inputs.split(";")) {
+            int separator = input.lastIndexOf('=');
+            String path = input.substring(0, separator);
+            if (!input.substring(separator + 1).equals(hash(Paths.get(path)))) {
+                return path + " changed";
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return e.g. "ErailTest.testErailDropdownAndDateSelection@chrome#standin"; a
+     *         pass against one site says nothing about another
+     */
+    private static String key(ITestNGMethod method, ITestContext context) {
+        String key = method.getRealClass().getSimpleName() + "." + method.getMethodName();
+        String browser = context.getCurrentXmlTest().getParameter("browser");
+        return (browser == null ? key : key + "@" + browser) + "#" + target(context);
+    }
+
+    /**
+     * @return the baseUrl parameter: "live", "standin" or a base URL
+     */
+    private static String target(ITestContext context) {
+        return parameter(context, "baseUrl", "live");
+    }
+
+    /**
+     * The source files of the project classes a test class reaches through its
+     * class files, plus the data files it read during this run and, for runs
+     * against the stand-in, its page fixtures.
+     */
+    private static Set<Path> inputsOf(String testClass, boolean standIn) {
+        Set<Path> inputs = new LinkedHashSet<>();
+        Set<String> seen = new LinkedHashSet<>();
+        Deque<String> pending = new ArrayDeque<>();
+        pending.add(testClass.replace('.', '/'));
+        while (!pending.isEmpty()) {
+            String internalName = pending.poll();
+            String topLevel = internalName.contains("$") ? internalName.substring(0, internalName.indexOf('$'))
+                : internalName;
+            if (!seen.add(internalName)) {
+                continue;
+            }
+            for (String root : SOURCE_ROOTS) {
+                Path source = Paths.get(root, topLevel + ".java");
+                if (Files.exists(source)) {
+                    inputs.add(source);
+                }
+            }
+            try (InputStream in = TestSelection.class.getClassLoader().getResourceAsStream(internalName + ".class")) {
+                if (in == null) {
+                    continue;
+                }
+                // Class names in the constant pool are stored as plain ASCII
+                Matcher matcher = CLASS_REFERENCE.matcher(new String(in.readAllBytes(), StandardCharsets.ISO_8859_1));
+                while (matcher.find()) {
+                    pending.add(matcher.group());
+                }
+            } catch (IOException e) {
+                logger.warn("Error reading class file of {}", internalName, e);
+            }
+        }
+        for (String dataFile : TestImpact.dataFilesOf(testClass)) {
+            inputs.add(Paths.get(dataFile));
+        }
+        if (standIn && Files.isDirectory(STAND_IN_FIXTURES)) {
+            try (Stream<Path> fixtures = Files.walk(STAND_IN_FIXTURES)) {
+                fixtures.filter(Files::isRegularFile).sorted().forEach(inputs::add);
+            } catch (IOException e) {
+                logger.warn("Error listing stand-in fixtures in {}", STAND_IN_FIXTURES, e);
+            }
+        }
+        return inputs;
+    }
+
+    private static String hash(Path file) {
+        return fileHashes.computeIfAbsent(file.toAbsolutePath().normalize().toString(), path -> {
+            try {
+                return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(Files.readAllBytes(file)));
+            } catch (IOException e) {
+                return "missing";
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 not available", e);
+            }
+        });
+    }
+
+    private static String relative(Path file) {
+        Path workingDirectory = Paths.get(System.getProperty("user.dir")).toAbsolutePath();
+        Path absolute = file.toAbsolutePath().normalize();
+        return (absolute.startsWith(workingDirectory) ? workingDirectory.relativize(absolute) : absolute).toString()
+            .replace('\\', '/');
+    }
+
+    private static synchronized Properties load(Path file) {
+        if (state == null) {
+            state = new Properties();
+            stateFile = file;
+            if (Files.exists(file)) {
+                try (InputStream in = Files.newInputStream(file)) {
+                    state.load(in);
+                } catch (IOException e) {
+                    logger.warn("Error reading test selection state {}; running all tests", file, e);
+                    state.clear();
+                }
+            }
+        }
+        Properties previous = new Properties();
+        previous.putAll(state);
+        return previous;
+    }
+
+    private static void save() {
+        try {
+            Files.createDirectories(stateFile.toAbsolutePath().getParent());
+            Path tmp = Files.createTempFile(stateFile.toAbsolutePath().getParent(), "state", ".tmp");
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                state.store(out, "Test selection state");
+            }
+            Files.move(tmp, stateFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.warn("Error writing test selection state {}", stateFile, e);
+        }
+    }
+
+    private static String parameter(ITestContext context, String name, String defaultValue) {
+        String value = context.getCurrentXmlTest().getParameter(name);
+        return value == null || value.isBlank() ? defaultValue : value.trim();
+    }
+}
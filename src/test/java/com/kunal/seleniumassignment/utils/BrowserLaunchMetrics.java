@@ -0,0 +1,63 @@
+package com.kunal.seleniumassignment.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Records how long each browser took from launch to a ready session, per
+ * browser and launch profile.
+ */
+public class BrowserLaunchMetrics {
+
+    private static final Logger logger = LoggerFactory.getLogger(BrowserLaunchMetrics.class);
+    private static final Map<String, List<Long>> launches = new TreeMap<>();
+
+    private BrowserLaunchMetrics() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Records one browser launch.
+     *
+     * @param browser      the browser name
+     * @param profile      the launch profile
+     * @param elapsedNanos time from launch to a ready session
+     */
+    public static void record(String browser, BrowserProfile profile, long elapsedNanos) {
+        String key = browser.toLowerCase() + " / " + profile.getProfileName();
+        synchronized (launches) {
+            launches.computeIfAbsent(key, k -> new ArrayList<>()).add(elapsedNanos);
+        }
+        logger.info("Browser launch-to-ready for {}: {} ms", key, elapsedNanos / 1_000_000);
+    }
+
+    /**
+     * Returns one line per browser and profile with launch count, mean, median
+     * and maximum launch-to-ready time.
+     *
+     * @return the summary, empty if no browser was launched
+     */
+    public static String summary() {
+        StringBuilder summary = new StringBuilder();
+        synchronized (launches) {
+            for (Map.Entry<String, List<Long>> entry : launches.entrySet()) {
+                List<Long> sorted = new ArrayList<>(entry.getValue());
+                Collections.sort(sorted);
+                long total = 0;
+                for (long value : sorted) {
+                    total += value;
+                }
+                summary.append(String.format("%s: %d launches, mean %d ms, median %d ms, max %d ms%n",
+                        entry.getKey(), sorted.size(), total / sorted.size() / 1_000_000,
+                        sorted.get((sorted.size() - 1) / 2) / 1_000_000, sorted.get(sorted.size() - 1) / 1_000_000));
+            }
+        }
+        return summary.toString();
+    }
+}
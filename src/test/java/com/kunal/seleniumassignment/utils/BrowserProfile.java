@@ -0,0 +1,116 @@
+package com.kunal.seleniumassignment.utils;
+
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.firefox.FirefoxOptions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Named browser launch profiles. Each profile fixes the window size, decides
+ * whether to run headless and which startup work the browser may skip.
+ */
+public enum BrowserProfile {
+
+    /**
+     * Keeps the requested headless setting. Headed runs are maximized, headless
+     * runs get a fixed window size instead of the extra maximize command.
+     */
+    DEFAULT("default", null, false),
+
+    /**
+     * Headless with a fixed window, no extensions, GPU, background networking,
+     * sync or first-run work.
+     */
+    FAST_HEADLESS("fast-headless", true, true),
+
+    /**
+     * Headed and maximized with the default browser behaviour, for watching a run.
+     */
+    VISUAL_DEBUG("visual-debug", false, false);
+
+    private static final Logger logger = LoggerFactory.getLogger(BrowserProfile.class);
+    private static final int WINDOW_WIDTH = 1920;
+    private static final int WINDOW_HEIGHT = 1080;
+
+    private final String profileName;
+    private final Boolean headless;
+    private final boolean tuned;
+
+    BrowserProfile(String profileName, Boolean headless, boolean tuned) {
+        this.profileName = profileName;
+        this.headless = headless;
+        this.tuned = tuned;
+    }
+
+    /**
+     * Looks up a profile by its name, e.g. "fast-headless".
+     *
+     * @param name the profile name, null or empty for {@link #DEFAULT}
+     * @return the profile
+     */
+    public static BrowserProfile fromName(String name) {
+        if (name == null || name.isEmpty()) {
+            return DEFAULT;
+        }
+        for (BrowserProfile profile : values()) {
+            if (profile.profileName.equalsIgnoreCase(name)) {
+                return profile;
+            }
+        }
+        logger.error("Unsupported launch profile: {}", name);
+        throw new IllegalArgumentException("Unsupported launch profile: " + name);
+    }
+
+    public String getProfileName() {
+        return profileName;
+    }
+
+    /**
+     * @param requested the headless setting asked for by the test parameters
+     * @return whether the browser runs headless under this profile
+     */
+    public boolean isHeadless(boolean requested) {
+        return headless == null ? requested : headless;
+    }
+
+    /**
+     * @param requested the headless setting asked for by the test parameters
+     * @return true if the window should be maximized after launch
+     */
+    public boolean shouldMaximize(boolean requested) {
+        return !isHeadless(requested);
+    }
+
+    public ChromeOptions chromeOptions(boolean requestedHeadless) {
+        ChromeOptions options = new ChromeOptions();
+        if (isHeadless(requestedHeadless)) {
+            options.addArguments("--headless=new", "--window-size=" + WINDOW_WIDTH + "," + WINDOW_HEIGHT);
+        }
+        if (tuned) {
+            options.addArguments("--disable-extensions", "--disable-gpu", "--disable-background-networking",
+                    "--disable-sync", "--disable-default-apps", "--disable-component-update", "--no-first-run",
+                    "--no-default-browser-check", "--mute-audio");
+        }
+        return options;
+    }
+
+    public FirefoxOptions firefoxOptions(boolean requestedHeadless) {
+        FirefoxOptions options = new FirefoxOptions();
+        if (isHeadless(requestedHeadless)) {
+            options.addArguments("--headless", "--width=" + WINDOW_WIDTH, "--height=" + WINDOW_HEIGHT);
+        }
+        if (tuned) {
+            options.addPreference("extensions.enabledScopes", 0);
+            options.addPreference("layers.acceleration.disabled", true);
+            options.addPreference("network.prefetch-next", false);
+            options.addPreference("network.dns.disablePrefetch", true);
+            options.addPreference("app.update.auto", false);
+            options.addPreference("browser.shell.checkDefaultBrowser", false);
+            options.addPreference("browser.startup.homepage_override.mstone", "ignore");
+            options.addPreference("datareporting.policy.dataSubmissionEnabled", false);
+            options.addPreference("toolkit.telemetry.enabled", false);
+            options.addPreference("services.sync.enabled", false);
+        }
+        return options;
+    }
+}
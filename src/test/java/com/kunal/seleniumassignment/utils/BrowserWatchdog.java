@@ -0,0 +1,302 @@
+package com.kunal.seleniumassignment.utils;
+
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Tracks the driver and browser process tree behind every WebDriver launched
+ * by {@link WebDriverManagerUtil}. A periodic sweep enforces per-browser memory
+ * and lifetime limits and kills driver processes nobody tracks any more; a JVM
+ * shutdown hook kills whatever is left. The lifetime limit only applies to
+ * per-test browsers: shared and pooled browsers live as long as the run and
+ * are checked for memory only.
+ *
+ * <p>The browser processes of a session are remembered by handle as they
+ * appear, so they can still be killed after the driver process exited and the
+ * OS reparented them. The watchdog only kills processes: the thread owning the
+ * WebDriver quits it as usual, which then cleans up what the launch left.
+ *
+ * <p>Limits are read from system properties: {@code watchdog.maxRssMb}
+ * (default 2048), {@code watchdog.maxLifetimeMinutes} (default 30) and
+ * {@code watchdog.sweepSeconds} (default 30). Memory is read from
+ * {@code /proc} and is only enforced on Linux.
+ */
+public class BrowserWatchdog {
+
+    private static final Logger logger = LoggerFactory.getLogger(BrowserWatchdog.class);
+    private static final long MAX_RSS_KB = Long.getLong("watchdog.maxRssMb", 2048) * 1024;
+    private static final Duration MAX_LIFETIME = Duration.ofMinutes(Long.getLong("watchdog.maxLifetimeMinutes", 30));
+    private static final long SWEEP_SECONDS = Long.getLong("watchdog.sweepSeconds", 30);
+    private static final Duration REAP_GRACE = Duration.ofSeconds(5);
+    private static final Duration ORPHAN_GRACE = Duration.ofMinutes(2);
+    private static final List<String> DRIVER_EXECUTABLES = List.of("chromedriver", "geckodriver");
+
+    private static final Map<WebDriver, Session> sessions = new ConcurrentHashMap<>();
+    private static ScheduledExecutorService sweeper;
+
+    private BrowserWatchdog() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Starts tracking the process tree of a newly created driver.
+     *
+     * @param driver     the new WebDriver
+     * @param browser    the browser name, for logging
+     * @param driverPort the port of its chromedriver/geckodriver service
+     * @param perTest    true for a browser of a single test, which is subject to
+     *                   the lifetime limit; false for shared and pooled browsers
+     */
+    public static void track(WebDriver driver, String browser, int driverPort, boolean perTest) {
+        startSweeper();
+        Optional<ProcessHandle> root = ProcessHandle.current().children()
+                .filter(process -> hasArgument(process, "--port=" + driverPort)).findFirst();
+        if (root.isEmpty()) {
+            logger.warn("Driver process for {} on port {} not found; it will not be watched", browser, driverPort);
+            return;
+        }
+        sessions.put(driver, new Session(browser, root.get(), perTest));
+        logger.info("Watching {} driver process {} ({} sessions)", browser, root.get().pid(), sessions.size());
+    }
+
+    /**
+     * Stops tracking a driver after it was quit, killing its process tree if it
+     * is still alive after a short grace period, and logs its resource usage.
+     *
+     * @param driver the WebDriver that was quit, or failed to quit
+     */
+    public static void release(WebDriver driver) {
+        Session session = sessions.remove(driver);
+        if (session == null) {
+            return;
+        }
+        session.refresh();
+        long deadline = System.nanoTime() + REAP_GRACE.toNanos();
+        while (session.isAlive() && System.nanoTime() < deadline) {
+            sleep(100);
+        }
+        if (session.isAlive()) {
+            logger.warn("{} processes of pid {} survived quit; killing them", session.browser, session.root.pid());
+            session.kill();
+        }
+        session.logUsage();
+    }
+
+    /**
+     * @param driver a WebDriver launched by {@link WebDriverManagerUtil}
+     * @return true if the watchdog killed its processes, so quitting it is
+     *         expected to fail
+     */
+    public static boolean isKilled(WebDriver driver) {
+        Session session = sessions.get(driver);
+        return session != null && session.killed;
+    }
+
+    /**
+     * Checks every tracked session against the limits and kills untracked
+     * driver processes. Runs periodically and can be called directly. Killed
+     * sessions stay tracked until their WebDriver is quit and released.
+     */
+    public static void sweep() {
+        for (Map.Entry<WebDriver, Session> entry : sessions.entrySet()) {
+            Session session = entry.getValue();
+            if (session.killed) {
+                continue;
+            }
+            session.refresh();
+            if (!session.isAlive()) {
+                sessions.remove(entry.getKey());
+                logger.info("{} session of pid {} has exited", session.browser, session.root.pid());
+                continue;
+            }
+            if (!session.root.isAlive()) {
+                logger.error("{} driver process {} exited, leaving its browser behind; killing it",
+                        session.browser, session.root.pid());
+                session.kill();
+                continue;
+            }
+            long rssKb = session.sample();
+            Duration age = Duration.between(session.started, Instant.now());
+            if (rssKb > MAX_RSS_KB || (session.perTest && age.compareTo(MAX_LIFETIME) > 0)) {
+                logger.error("{} session of pid {} exceeded its limits (RSS {} MB, age {} s); killing it",
+                        session.browser, session.root.pid(), rssKb / 1024, age.getSeconds());
+                session.kill();
+                session.logUsage();
+            }
+        }
+        reapOrphans();
+    }
+
+    /**
+     * Kills chromedriver/geckodriver children of this JVM that no tracked
+     * session owns, e.g. after a test crashed before quitting its driver.
+     */
+    private static void reapOrphans() {
+        List<Long> tracked = sessions.values().stream().map(session -> session.root.pid())
+                .collect(Collectors.toList());
+        ProcessHandle.current().children()
+                .filter(process -> !tracked.contains(process.pid()))
+                .filter(process -> DRIVER_EXECUTABLES.stream().anyMatch(commandLine(process)::contains))
+                // Skip drivers still launching their browser, which are tracked only once it is ready
+                .filter(process -> process.info().startInstant()
+                        .map(start -> start.isBefore(Instant.now().minus(ORPHAN_GRACE))).orElse(true))
+                .forEach(process -> {
+                    logger.warn("Killing orphaned driver process {}: {}", process.pid(), commandLine(process));
+                    killTree(process);
+                });
+    }
+
+    private static synchronized void startSweeper() {
+        if (sweeper != null) {
+            return;
+        }
+        sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "browser-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sweeper.scheduleWithFixedDelay(() -> {
+            try {
+                sweep();
+            } catch (Exception e) {
+                logger.error("Browser watchdog sweep failed", e);
+            }
+        }, SWEEP_SECONDS, SWEEP_SECONDS, TimeUnit.SECONDS);
+        Runtime.getRuntime().addShutdownHook(new Thread(BrowserWatchdog::killAll, "browser-watchdog-shutdown"));
+    }
+
+    private static void killAll() {
+        for (Session session : sessions.values()) {
+            if (session.isAlive()) {
+                session.kill();
+            }
+        }
+        sessions.clear();
+        ProcessHandle.current().children()
+                .filter(process -> DRIVER_EXECUTABLES.stream().anyMatch(commandLine(process)::contains))
+                .forEach(BrowserWatchdog::killTree);
+    }
+
+    private static void killTree(ProcessHandle root) {
+        root.descendants().forEach(ProcessHandle::destroyForcibly);
+        root.destroyForcibly();
+    }
+
+    private static String commandLine(ProcessHandle process) {
+        return process.info().commandLine().orElse("");
+    }
+
+    /**
+     * @return true if one of the process's arguments is exactly {@code argument}
+     */
+    private static boolean hasArgument(ProcessHandle process, String argument) {
+        String[] arguments = process.info().arguments()
+                .orElseGet(() -> commandLine(process).split("\\s+"));
+        return Arrays.asList(arguments).contains(argument);
+    }
+
+    /**
+     * Resident memory of one process in KB, or 0 where /proc is not available.
+     */
+    private static long rssKb(ProcessHandle process) {
+        Path status = Paths.get("/proc", String.valueOf(process.pid()), "status");
+        try (Stream<String> lines = Files.lines(status)) {
+            return lines.filter(line -> line.startsWith("VmRSS:")).findFirst()
+                    .map(line -> Long.parseLong(line.replaceAll("[^0-9]", ""))).orElse(0L);
+        } catch (IOException | RuntimeException e) {
+            return 0;
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * A driver process and the browser processes below it, remembered by handle
+     * so that they stay known after being reparented.
+     */
+    private static final class Session {
+        private final String browser;
+        private final ProcessHandle root;
+        private final boolean perTest;
+        private final Set<ProcessHandle> processes = ConcurrentHashMap.newKeySet();
+        private final Instant started = Instant.now();
+        private volatile boolean killed;
+        private volatile long peakRssKb;
+        private volatile Duration cpu = Duration.ZERO;
+
+        Session(String browser, ProcessHandle root, boolean perTest) {
+            this.browser = browser;
+            this.root = root;
+            this.perTest = perTest;
+            processes.add(root);
+            refresh();
+        }
+
+        /**
+         * Adds processes started below any known process since the last refresh
+         * and forgets those that have exited.
+         */
+        void refresh() {
+            for (ProcessHandle process : List.copyOf(processes)) {
+                process.descendants().forEach(processes::add);
+            }
+            processes.removeIf(process -> process != root && !process.isAlive());
+        }
+
+        boolean isAlive() {
+            return processes.stream().anyMatch(ProcessHandle::isAlive);
+        }
+
+        /**
+         * Samples memory and CPU of the whole tree and returns the current RSS.
+         */
+        long sample() {
+            List<ProcessHandle> tree = processes.stream().filter(ProcessHandle::isAlive)
+                    .collect(Collectors.toList());
+            long rss = tree.stream().mapToLong(BrowserWatchdog::rssKb).sum();
+            Duration total = tree.stream().map(process -> process.info().totalCpuDuration().orElse(Duration.ZERO))
+                    .reduce(Duration.ZERO, Duration::plus);
+            peakRssKb = Math.max(peakRssKb, rss);
+            if (total.compareTo(cpu) > 0) {
+                cpu = total;
+            }
+            return rss;
+        }
+
+        void kill() {
+            killed = true;
+            refresh();
+            processes.forEach(ProcessHandle::destroyForcibly);
+        }
+
+        void logUsage() {
+            logger.info("{} session of pid {}: lifetime {} s, peak RSS {} MB, CPU {} ms", browser, root.pid(),
+                    Duration.between(started, Instant.now()).getSeconds(), peakRssKb / 1024, cpu.toMillis());
+        }
+    }
+}
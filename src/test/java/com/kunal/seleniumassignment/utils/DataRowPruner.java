@@ -0,0 +1,155 @@
+package com.kunal.seleniumassignment.utils;
+
+import com.aventstack.extentreports.ExtentReports;
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.markuputils.MarkupHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Data-provider stage that drops exact duplicate rows and, in fast mode, runs
+ * only a sample of each equivalence class of rows. Rows are classified by a
+ * pluggable classifier; rows it cannot classify are always kept. Every
+ * dropped row is recorded with the reason, for the log and the reports.
+ */
+public class DataRowPruner {
+
+    /** Runs every distinct row. */
+    public static final String EXHAUSTIVE = "exhaustive";
+    /** Runs a sample of rows per equivalence class. */
+    public static final String FAST = "fast";
+
+    private static final Logger logger = LoggerFactory.getLogger(DataRowPruner.class);
+    /** Keyed by data set and row, since every browser of a matrix run reads the same rows. */
+    private static final Map<String, String[]> skippedRows = new ConcurrentSkipListMap<>();
+    private static boolean reported;
+
+    private final String dataSet;
+    private final Function<Object[], String> classifier;
+
+    /**
+     * @param dataSet    name of the data, e.g. the spreadsheet, for the reports
+     * @param classifier returns the equivalence class of a row, or null if unknown
+     */
+    public DataRowPruner(String dataSet, Function<Object[], String> classifier) {
+        this.dataSet = dataSet;
+        this.classifier = classifier;
+    }
+
+    /**
+     * Builds a classifier from named rules: a row belongs to the class of the
+     * first rule it matches, or to none if no rule matches.
+     *
+     * @param rules class names and their rules, in the order they are tried
+     * @return the classifier
+     */
+    public static Function<Object[], String> firstMatching(LinkedHashMap<String, Predicate<Object[]>> rules) {
+        return row -> {
+            for (Map.Entry<String, Predicate<Object[]>> rule : rules.entrySet()) {
+                if (rule.getValue().test(row)) {
+                    return rule.getKey();
+                }
+            }
+            return null;
+        };
+    }
+
+    /**
+     * Removes duplicate rows and, in {@link #FAST} mode, every row beyond the
+     * first {@code samplePerClass} rows of its class.
+     *
+     * @param rows           the rows of the data provider
+     * @param mode           {@link #FAST} or {@link #EXHAUSTIVE}
+     * @param samplePerClass rows to keep per class in fast mode
+     * @return the rows to run, in their original order
+     */
+    public Object[][] select(Object[][] rows, String mode, int samplePerClass) {
+        boolean fast = FAST.equalsIgnoreCase(mode);
+        Map<List<Object>, Integer> firstOccurrence = new HashMap<>();
+        Map<String, List<Integer>> keptPerClass = new LinkedHashMap<>();
+        List<Object[]> selected = new ArrayList<>();
+
+        for (int i = 0; i < rows.length; i++) {
+            int rowNumber = i + 1;
+            Integer duplicateOf = firstOccurrence.putIfAbsent(Arrays.asList(rows[i]), rowNumber);
+            if (duplicateOf != null) {
+                skip(rowNumber, rows[i], "duplicate of row " + duplicateOf);
+                continue;
+            }
+            String equivalenceClass = classifier.apply(rows[i]);
+            if (equivalenceClass != null) {
+                List<Integer> kept = keptPerClass.computeIfAbsent(equivalenceClass, c -> new ArrayList<>());
+                if (fast && kept.size() >= samplePerClass) {
+                    skip(rowNumber, rows[i], "class '" + equivalenceClass + "' already covered by rows " + kept);
+                    continue;
+                }
+                kept.add(rowNumber);
+            }
+            selected.add(rows[i]);
+        }
+        logger.info("{}: running {} of {} rows in {} mode, classes: {}", dataSet, selected.size(), rows.length,
+            fast ? FAST : EXHAUSTIVE, keptPerClass.keySet());
+        return selected.toArray(new Object[0][]);
+    }
+
+    private void skip(int rowNumber, Object[] row, String reason) {
+        logger.info("{}: skipping row {} {}: {}", dataSet, rowNumber, Arrays.toString(row), reason);
+        skippedRows.put(String.format("%s#%06d", dataSet, rowNumber),
+            new String[] { dataSet, String.valueOf(rowNumber), Arrays.toString(row), reason });
+    }
+
+    /**
+     * Writes every skipped row and its reason to a text file.
+     *
+     * @param path the report file
+     */
+    public static void writeReport(String path) {
+        if (skippedRows.isEmpty()) {
+            return;
+        }
+        StringBuilder report = new StringBuilder("Skipped data rows\n");
+        for (String[] skipped : skippedRows.values()) {
+            report.append(String.format("%-20s row %-4s %-40s %s%n", skipped[0], skipped[1], skipped[2], skipped[3]));
+        }
+        try {
+            Path file = Paths.get(path);
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            Files.write(file, report.toString().getBytes(StandardCharsets.UTF_8));
+            logger.info("Skipped data rows written to: {}", path);
+        } catch (IOException e) {
+            logger.error("Error writing skipped data rows to: {}", path, e);
+        }
+    }
+
+    /**
+     * Adds a "Skipped Data Rows" node to the report. Only the first call adds it.
+     *
+     * @param extent the report
+     */
+    public static synchronized void attachTo(ExtentReports extent) {
+        if (reported || skippedRows.isEmpty()) {
+            return;
+        }
+        reported = true;
+        List<String[]> table = new ArrayList<>();
+        table.add(new String[] { "Data", "Row", "Values", "Reason" });
+        table.addAll(skippedRows.values());
+        ExtentTest node = extent.createTest("Skipped Data Rows");
+        node.info(MarkupHelper.createTable(table.toArray(new String[0][])));
+    }
+}
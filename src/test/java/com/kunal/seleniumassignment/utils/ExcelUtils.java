@@ -6,12 +6,17 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.*;
+import java.net.URL;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
 
 public class ExcelUtils {
 
     private static final Logger logger = LoggerFactory.getLogger(ExcelUtils.class);
+    private static final Map<String, Future<Object[][]>> prefetchedLoginData = new ConcurrentHashMap<>();
 
     // Method to write data to Excel
     public static void writeToExcel(String fileName, List<String> data) {
@@ -32,6 +37,7 @@ public class ExcelUtils {
     // Method to read data from Excel (Single Column)
     public static List<String> readFromExcel(String fileName) {
         List<String> data = new ArrayList<>();
+        TestImpact.recordDataFile(new File(fileName));
         try (FileInputStream fileIn = new FileInputStream(fileName); Workbook workbook = new XSSFWorkbook(fileIn)) {
             Sheet sheet = workbook.getSheetAt(0);
             for (Row row : sheet) {
@@ -47,8 +53,27 @@ public class ExcelUtils {
         return data;
     }
 
-    // Method to read login data for data-driven testing
+    // Method to start reading login data in the background, so the sheet is
+    // parsed while the suite sets up. The next readLoginData call for the file
+    // takes the result.
+    public static void prefetchLoginData(String fileName) {
+        prefetchedLoginData.computeIfAbsent(fileName,
+            name -> IoExecutor.submit("Reading login data from " + name, () -> parseLoginData(name)));
+    }
+
+    // Method to read login data for data-driven testing.
+    // Each row is {username, password, mode}; mode comes from an optional third
+    // column and is empty when the column is absent.
     public static Object[][] readLoginData(String fileName) {
+        URL resource = ExcelUtils.class.getClassLoader().getResource(fileName);
+        if (resource != null) {
+            TestImpact.recordDataFile(new File(resource.getFile()));
+        }
+        Future<Object[][]> prefetched = prefetchedLoginData.remove(fileName);
+        return prefetched != null ? IoExecutor.await(prefetched) : parseLoginData(fileName);
+    }
+
+    private static Object[][] parseLoginData(String fileName) {
         List<Object[]> loginDataList = new ArrayList<>();
         try {
             File file = new File(ExcelUtils.class.getClassLoader().getResource(fileName).getFile());
@@ -60,8 +85,9 @@ public class ExcelUtils {
 
                     String username = getCellValue(row.getCell(0));
                     String password = getCellValue(row.getCell(1));
+                    String mode = getCellValue(row.getCell(2));
 
-                    loginDataList.add(new Object[]{username, password});
+                    loginDataList.add(new Object[]{username, password, mode});
                 }
             }
             logger.info("Login data read successfully from: {}", fileName);
@@ -72,8 +98,8 @@ public class ExcelUtils {
         return loginDataList.toArray(new Object[0][0]);
     }
 
-    // Helper method to safely get cell values
-    private static String getCellValue(Cell cell) {
+    // Helper method to safely get cell values (package-private for benchmarks)
+    static String getCellValue(Cell cell) {
         if (cell == null) {
             return "";
         }
@@ -89,41 +115,26 @@ public class ExcelUtils {
         }
     }
 
-    // Method to write dropdown data to Excel file
-    public static void writeDropdownDataToExcel(List<String> dropdownOptions, String filePath) {
+    // Method to write the dropdown options of several station codes to an Excel
+    // file: the station in the first column, as in the single-code sheet, and
+    // the code that offered it in the second
+    public static void writeDropdownDataToExcel(Map<String, List<String>> optionsByCode, String filePath) {
         try (Workbook workbook = new XSSFWorkbook(); FileOutputStream fileOut = new FileOutputStream(new File(filePath))) {
             Sheet sheet = workbook.createSheet("Station List");
 
             int rowNum = 0;
-            for (String option : dropdownOptions) {
-                Row row = sheet.createRow(rowNum++);
-                row.createCell(0).setCellValue(option);
+            for (Map.Entry<String, List<String>> code : optionsByCode.entrySet()) {
+                for (String option : code.getValue()) {
+                    Row row = sheet.createRow(rowNum++);
+                    row.createCell(0).setCellValue(option);
+                    row.createCell(1).setCellValue(code.getKey());
+                }
             }
 
             workbook.write(fileOut);
-            logger.info("Dropdown data written to: {}", filePath);
+            logger.info("Dropdown data of {} station codes written to: {}", optionsByCode.size(), filePath);
         } catch (IOException e) {
             logger.error("Error writing dropdown data to Excel file: {}", filePath, e);
         }
     }
-
-    // Method to compare if the expected station is present in the Excel file
-    public static boolean isStationPresentInExcel(String expectedStation, String filePath) {
-        try (FileInputStream fileIn = new FileInputStream(new File(filePath)); 
-             Workbook workbook = new XSSFWorkbook(fileIn)) {
-            Sheet sheet = workbook.getSheetAt(0);
-
-            for (Row row : sheet) {
-                String actualStation = row.getCell(0).getStringCellValue();
-                if (actualStation.equalsIgnoreCase(expectedStation)) {
-                    logger.info("Station '{}' found in Excel file: {}", expectedStation, filePath);
-                    return true;
-                }
-            }
-            logger.warn("Station '{}' not found in Excel file: {}", expectedStation, filePath);
-        } catch (IOException e) {
-            logger.error("Error checking station presence in Excel file: {}", filePath, e);
-        }
-        return false;
-    }
 }
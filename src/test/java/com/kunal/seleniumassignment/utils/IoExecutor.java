@@ -0,0 +1,151 @@
+package com.kunal.seleniumassignment.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Shared executor for blocking framework I/O such as spreadsheet reads and
+ * writes, running each task on its own virtual thread so it overlaps with the
+ * browser interaction of the test thread. Browsers are only driven from
+ * platform threads: tasks must not touch a WebDriver.
+ *
+ * <p>Tasks submitted by a test thread between {@link #openScope()} and
+ * {@link #closeScope(boolean)} belong to that test: they are awaited when it
+ * ends, or cancelled and interrupted when it failed, so no task outlives its
+ * test. Tasks submitted outside a scope, like suite-level prefetches, are
+ * cancelled when the JVM exits.
+ */
+public class IoExecutor {
+
+    private static final Logger logger = LoggerFactory.getLogger(IoExecutor.class);
+    private static final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+        Thread.ofVirtual().name("io-", 0).factory());
+    private static final ThreadLocal<List<Future<?>>> scope = new ThreadLocal<>();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(executor::shutdownNow, "io-executor-shutdown"));
+    }
+
+    private IoExecutor() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Starts a task on a virtual thread, owned by the current test if a scope
+     * is open on this thread.
+     *
+     * @param name describes the task in the log
+     * @param task the blocking work
+     * @param <T>  the result type
+     * @return the pending result, see {@link #await(Future)}
+     */
+    public static <T> Future<T> submit(String name, Callable<T> task) {
+        Future<T> future = executor.submit(() -> {
+            long start = System.nanoTime();
+            try {
+                return task.call();
+            } finally {
+                logger.debug("{} took {} ms", name, (System.nanoTime() - start) / 1_000_000);
+            }
+        });
+        List<Future<?>> owned = scope.get();
+        if (owned != null) {
+            owned.add(future);
+        }
+        return future;
+    }
+
+    /**
+     * Waits for a task and returns its result, rethrowing what the task threw.
+     * Checked exceptions are wrapped, IOExceptions as {@link UncheckedIOException}.
+     *
+     * @param future a task from {@link #submit(String, Callable)}
+     * @param <T>    the result type
+     * @return the result
+     */
+    public static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new IllegalStateException("Interrupted while waiting for an I/O task", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            if (cause instanceof IOException) {
+                throw new UncheckedIOException((IOException) cause);
+            }
+            throw new IllegalStateException("I/O task failed", cause);
+        }
+    }
+
+    /**
+     * Starts owning the tasks this thread submits for the current test.
+     * Tasks left over from a scope that was not closed are cancelled.
+     */
+    public static void openScope() {
+        List<Future<?>> previous = scope.get();
+        if (previous != null) {
+            cancel(previous);
+        }
+        scope.set(new ArrayList<>());
+    }
+
+    /**
+     * Ends the scope of the current test. After a failure its unfinished tasks
+     * are cancelled; otherwise they are awaited, and failures are logged since
+     * the test no longer waits for their result.
+     *
+     * @param failed whether the test failed
+     */
+    public static void closeScope(boolean failed) {
+        List<Future<?>> owned = scope.get();
+        scope.remove();
+        if (owned == null) {
+            return;
+        }
+        if (failed) {
+            int cancelled = cancel(owned);
+            if (cancelled > 0) {
+                logger.info("Cancelled {} I/O tasks of the failed test", cancelled);
+            }
+            return;
+        }
+        for (Future<?> future : owned) {
+            try {
+                await(future);
+            } catch (CancellationException e) {
+                // Cancelled by the test itself
+            } catch (RuntimeException e) {
+                logger.error("I/O task of the test failed", e);
+            }
+        }
+    }
+
+    private static int cancel(List<Future<?>> futures) {
+        int cancelled = 0;
+        for (Future<?> future : futures) {
+            if (future.cancel(true)) {
+                cancelled++;
+            }
+        }
+        return cancelled;
+    }
+}
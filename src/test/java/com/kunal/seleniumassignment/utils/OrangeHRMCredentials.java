@@ -0,0 +1,25 @@
+package com.kunal.seleniumassignment.utils;
+
+/**
+ * The login the OrangeHRM demo site accepts. The stand-in server accepts the
+ * same one, and tests read it from here to know which logins should reach the
+ * dashboard, so both sides always agree.
+ */
+public class OrangeHRMCredentials {
+
+    public static final String USERNAME = "Admin";
+    public static final String PASSWORD = "admin123";
+
+    private OrangeHRMCredentials() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * @param username the username entered
+     * @param password the password entered
+     * @return true if the login leads to the dashboard
+     */
+    public static boolean isValid(String username, String password) {
+        return USERNAME.equals(username) && PASSWORD.equals(password);
+    }
+}
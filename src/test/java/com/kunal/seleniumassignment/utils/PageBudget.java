@@ -0,0 +1,90 @@
+package com.kunal.seleniumassignment.utils;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Performance budget of one page: an upper limit per metric and whether
+ * exceeding it fails the test or only warns.
+ */
+public class PageBudget {
+
+    public enum Severity {
+        WARN, FAIL
+    }
+
+    private final String page;
+    private final Map<PageMetrics.Metric, Double> limits = new EnumMap<>(PageMetrics.Metric.class);
+    private Severity severity = Severity.WARN;
+
+    private PageBudget(String page) {
+        this.page = page;
+    }
+
+    /**
+     * Starts a budget that warns when exceeded.
+     *
+     * @param page the page name used in reports, e.g. "ERAIL home"
+     * @return the budget
+     */
+    public static PageBudget forPage(String page) {
+        return new PageBudget(page);
+    }
+
+    /**
+     * @param metric the metric to limit
+     * @param max    its highest acceptable value
+     * @return this budget
+     */
+    public PageBudget limit(PageMetrics.Metric metric, double max) {
+        limits.put(metric, max);
+        return this;
+    }
+
+    /**
+     * Makes exceeding the budget fail the test instead of warning.
+     *
+     * @return this budget
+     */
+    public PageBudget failOnBreach() {
+        severity = Severity.FAIL;
+        return this;
+    }
+
+    public String getPage() {
+        return page;
+    }
+
+    public Severity getSeverity() {
+        return severity;
+    }
+
+    /**
+     * @param metric a metric
+     * @return its limit, or null if this budget does not limit it
+     */
+    public Double getLimit(PageMetrics.Metric metric) {
+        return limits.get(metric);
+    }
+
+    /**
+     * Compares metrics with the limits. Metrics the browser did not report are
+     * not checked.
+     *
+     * @param metrics the metrics of a page load
+     * @return one description per exceeded limit, empty if within budget
+     */
+    public List<String> breaches(PageMetrics metrics) {
+        List<String> breaches = new ArrayList<>();
+        for (Map.Entry<PageMetrics.Metric, Double> limit : limits.entrySet()) {
+            Double value = metrics.get(limit.getKey());
+            if (value != null && value > limit.getValue()) {
+                breaches.add(String.format("%s: %s %.0f exceeds budget %.0f", page, limit.getKey().getLabel(), value,
+                    limit.getValue()));
+            }
+        }
+        return breaches;
+    }
+}
@@ -5,6 +5,8 @@ import org.openqa.selenium.WebDriver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Map;
+
 /**
  * Utility class for handling page load synchronization.
  */
@@ -12,6 +14,27 @@ public class PageLoadUtil {
 
     private static final Logger logger = LoggerFactory.getLogger(PageLoadUtil.class);
     private static final int DEFAULT_POLL_INTERVAL_MS = 500;
+    private static final String METRICS_SCRIPT =
+        "var done = arguments[arguments.length - 1];"
+        + "var nav = performance.getEntriesByType('navigation')[0];"
+        + "var fcp = performance.getEntriesByName('first-contentful-paint')[0];"
+        + "var resources = performance.getEntriesByType('resource');"
+        + "var result = { url: location.href,"
+        + "  ttfb: nav ? nav.responseStart - nav.startTime : -1,"
+        + "  domContentLoaded: nav && nav.domContentLoadedEventEnd > 0 ? nav.domContentLoadedEventEnd : -1,"
+        + "  load: nav && nav.loadEventEnd > 0 ? nav.loadEventEnd : -1,"
+        + "  fcp: fcp ? fcp.startTime : -1,"
+        + "  resources: resources.length,"
+        + "  transferBytes: resources.reduce(function (sum, r) { return sum + (r.transferSize || 0); },"
+        + "    nav ? nav.transferSize || 0 : 0),"
+        + "  lcp: -1 };"
+        // LCP is only exposed to observers; buffered entries arrive asynchronously
+        + "var types = (window.PerformanceObserver && PerformanceObserver.supportedEntryTypes) || [];"
+        + "if (types.indexOf('largest-contentful-paint') < 0) { done(result); return; }"
+        + "var observer = new PerformanceObserver(function (list) {"
+        + "  var entries = list.getEntries(); result.lcp = entries[entries.length - 1].startTime; });"
+        + "observer.observe({ type: 'largest-contentful-paint', buffered: true });"
+        + "setTimeout(function () { observer.disconnect(); done(result); }, 100);";
 
     private PageLoadUtil() {
         // Private constructor to prevent instantiation
@@ -42,6 +65,32 @@ public class PageLoadUtil {
         throw new RuntimeException("Page did not load within " + timeoutInSeconds + " seconds");
     }
 
+    /**
+     * Collects Navigation Timing, resource timing and paint metrics of the
+     * current page. Call it after the page has loaded.
+     *
+     * @param driver the WebDriver instance
+     * @return the metrics of the current page
+     */
+    public static PageMetrics collectMetrics(WebDriver driver) {
+        @SuppressWarnings("unchecked")
+        Map<String, Object> raw = (Map<String, Object>) ((JavascriptExecutor) driver).executeAsyncScript(METRICS_SCRIPT);
+        PageMetrics metrics = new PageMetrics((String) raw.get("url"));
+        metrics.put(PageMetrics.Metric.TTFB, number(raw.get("ttfb")));
+        metrics.put(PageMetrics.Metric.DOM_CONTENT_LOADED, number(raw.get("domContentLoaded")));
+        metrics.put(PageMetrics.Metric.LOAD, number(raw.get("load")));
+        metrics.put(PageMetrics.Metric.FCP, number(raw.get("fcp")));
+        metrics.put(PageMetrics.Metric.LCP, number(raw.get("lcp")));
+        metrics.put(PageMetrics.Metric.RESOURCES, number(raw.get("resources")));
+        metrics.put(PageMetrics.Metric.TRANSFER_KB, number(raw.get("transferBytes")) / 1024);
+        logger.info("Page metrics: {}", metrics);
+        return metrics;
+    }
+
+    private static double number(Object value) {
+        return value instanceof Number ? ((Number) value).doubleValue() : -1;
+    }
+
     /**
      * Checks if the page is fully loaded.
      *
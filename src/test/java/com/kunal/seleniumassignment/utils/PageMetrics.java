@@ -0,0 +1,85 @@
+package com.kunal.seleniumassignment.utils;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Navigation, paint and resource timings of one page load, in milliseconds
+ * from the start of the navigation. Metrics the browser does not report are
+ * missing rather than zero.
+ */
+public class PageMetrics {
+
+    /**
+     * The collected metrics and their report labels.
+     */
+    public enum Metric {
+        TTFB("Time to first byte (ms)"),
+        DOM_CONTENT_LOADED("DOMContentLoaded (ms)"),
+        LOAD("Load event (ms)"),
+        FCP("First contentful paint (ms)"),
+        LCP("Largest contentful paint (ms)"),
+        RESOURCES("Resources"),
+        TRANSFER_KB("Transferred (KB)");
+
+        private final String label;
+
+        Metric(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        /**
+         * @return true for timings, false for counts and sizes
+         */
+        public boolean isTiming() {
+            return this != RESOURCES && this != TRANSFER_KB;
+        }
+    }
+
+    private final String url;
+    private final Map<Metric, Double> values = new EnumMap<>(Metric.class);
+
+    public PageMetrics(String url) {
+        this.url = url;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * @param metric the metric
+     * @param value  its value; negative values mean the browser did not report it
+     */
+    void put(Metric metric, double value) {
+        if (value >= 0) {
+            values.put(metric, value);
+        }
+    }
+
+    /**
+     * @param metric the metric
+     * @return the value, or null if the browser did not report it
+     */
+    public Double get(Metric metric) {
+        return values.get(metric);
+    }
+
+    /**
+     * @return the reported metrics, in {@link Metric} order
+     */
+    public Map<Metric, Double> getValues() {
+        return values;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder(url);
+        values.forEach((metric, value) -> text.append(", ").append(metric).append('=').append(Math.round(value)));
+        return text.toString();
+    }
+}
@@ -0,0 +1,80 @@
+package com.kunal.seleniumassignment.utils;
+
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.pagefactory.Annotations;
+import org.openqa.selenium.support.pagefactory.DefaultElementLocator;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+import org.openqa.selenium.support.pagefactory.ElementLocatorFactory;
+
+import java.lang.reflect.Field;
+import java.util.List;
+
+/**
+ * Element locator factory for {@code PageFactory.initElements} that times every
+ * {@code @FindBy} resolution and reports it to {@link WaitProfiler}.
+ */
+public class ProfilingElementLocatorFactory implements ElementLocatorFactory {
+
+    private final SearchContext searchContext;
+
+    public ProfilingElementLocatorFactory(SearchContext searchContext) {
+        this.searchContext = searchContext;
+    }
+
+    @Override
+    public ElementLocator createLocator(Field field) {
+        String description = field.getDeclaringClass().getSimpleName() + "." + field.getName() + " ("
+                + new Annotations(field).buildBy() + ")";
+        return new ProfilingElementLocator(new DefaultElementLocator(searchContext, field), description);
+    }
+
+    /**
+     * Delegating locator that records how long each lookup took.
+     */
+    private static final class ProfilingElementLocator implements ElementLocator {
+        private final ElementLocator delegate;
+        private final String description;
+
+        ProfilingElementLocator(ElementLocator delegate, String description) {
+            this.delegate = delegate;
+            this.description = description;
+        }
+
+        @Override
+        public WebElement findElement() {
+            long start = System.nanoTime();
+            try {
+                WebElement element = delegate.findElement();
+                WaitProfiler.recordLookup(description, System.nanoTime() - start, WaitProfiler.Outcome.SUCCESS);
+                return element;
+            } catch (NoSuchElementException e) {
+                WaitProfiler.recordLookup(description, System.nanoTime() - start, WaitProfiler.Outcome.NOT_FOUND);
+                throw e;
+            } catch (RuntimeException e) {
+                WaitProfiler.recordLookup(description, System.nanoTime() - start, WaitProfiler.Outcome.ERROR);
+                throw e;
+            }
+        }
+
+        @Override
+        public List<WebElement> findElements() {
+            long start = System.nanoTime();
+            try {
+                List<WebElement> elements = delegate.findElements();
+                WaitProfiler.recordLookup(description, System.nanoTime() - start,
+                        elements.isEmpty() ? WaitProfiler.Outcome.NOT_FOUND : WaitProfiler.Outcome.SUCCESS);
+                return elements;
+            } catch (RuntimeException e) {
+                WaitProfiler.recordLookup(description, System.nanoTime() - start, WaitProfiler.Outcome.ERROR);
+                throw e;
+            }
+        }
+
+        @Override
+        public String toString() {
+            return description;
+        }
+    }
+}
@@ -0,0 +1,442 @@
+package com.kunal.seleniumassignment.utils;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.devtools.NetworkInterceptor;
+import org.openqa.selenium.remote.http.Contents;
+import org.openqa.selenium.remote.http.HttpMethod;
+import org.openqa.selenium.remote.http.HttpRequest;
+import org.openqa.selenium.remote.http.HttpResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Disk cache for browser responses, served through Chrome DevTools request
+ * interception. Matching GET requests are answered from the cache directory,
+ * keyed by method and URL; everything else goes to the network as usual.
+ *
+ * <p>Modes:
+ * <ul>
+ * <li>{@code cache} - serves fresh entries, revalidates stale ones with
+ * If-None-Match/If-Modified-Since and stores misses</li>
+ * <li>{@code record} - always fetches and stores, refreshing the cache</li>
+ * <li>{@code replay} - serves only from the cache, regardless of age, and
+ * answers misses with HTTP 504, so runs work offline</li>
+ * </ul>
+ * Entries older than the TTL are stale; when the cache grows beyond its size
+ * limit the least recently used entries are evicted. Only Chrome supports
+ * interception; other browsers run uncached.
+ */
+public class ResponseCache {
+
+    public enum Mode {
+        OFF, CACHE, RECORD, REPLAY
+    }
+
+    private static final Logger logger = LoggerFactory.getLogger(ResponseCache.class);
+    private static final Set<String> SKIPPED_REQUEST_HEADERS = Set.of("host", "connection", "content-length",
+        "expect", "upgrade", "accept-encoding", "keep-alive", "te", "trailer", "transfer-encoding",
+        "proxy-connection", "if-none-match", "if-modified-since");
+    private static final Set<String> SKIPPED_RESPONSE_HEADERS = Set.of("content-encoding", "content-length",
+        "transfer-encoding", "connection", "keep-alive");
+
+    private static ResponseCache instance;
+
+    private final Mode mode;
+    private final Path directory;
+    private final Duration ttl;
+    private final long maxBytes;
+    private final Pattern urlPattern;
+    private final HttpClient client;
+    /** Entry keys to body sizes, in least recently used first order. */
+    private final LinkedHashMap<String, Long> index = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<WebDriver, NetworkInterceptor> interceptors = new ConcurrentHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong revalidated = new AtomicLong();
+    private final AtomicLong fetched = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evicted = new AtomicLong();
+    private long totalBytes;
+
+    private ResponseCache(Mode mode, Path directory, Duration ttl, long maxBytes, Pattern urlPattern)
+            throws IOException {
+        this.mode = mode;
+        this.directory = directory;
+        this.ttl = ttl;
+        this.maxBytes = maxBytes;
+        this.urlPattern = urlPattern;
+        this.client = HttpClient.newBuilder().followRedirects(HttpClient.Redirect.NEVER)
+            .connectTimeout(Duration.ofSeconds(10)).build();
+        Files.createDirectories(directory);
+        loadIndex();
+    }
+
+    /**
+     * Configures the shared cache. Later calls return the existing cache.
+     *
+     * @param mode       "off", "cache", "record" or "replay"
+     * @param directory  the cache directory
+     * @param ttlMinutes age after which an entry is revalidated
+     * @param maxMb      size limit of the stored bodies in MB
+     * @param urlPattern regular expression for the URLs to cache
+     * @return the cache, or null when the mode is "off"
+     */
+    public static synchronized ResponseCache configure(String mode, String directory, long ttlMinutes, long maxMb,
+            String urlPattern) {
+        Mode parsed = Mode.valueOf(mode.trim().toUpperCase(Locale.ROOT));
+        if (parsed == Mode.OFF || instance != null) {
+            return instance;
+        }
+        try {
+            instance = new ResponseCache(parsed, Paths.get(directory), Duration.ofMinutes(ttlMinutes),
+                maxMb * 1024 * 1024, Pattern.compile(urlPattern));
+            logger.info("Response cache in {} mode at {} ({} entries, {} KB)", parsed, directory,
+                instance.index.size(), instance.totalBytes / 1024);
+        } catch (IOException e) {
+            logger.error("Error opening response cache directory: {}", directory, e);
+            throw new RuntimeException("Failed to open response cache directory: " + directory, e);
+        }
+        return instance;
+    }
+
+    /**
+     * Returns the configured cache, or null if caching is off.
+     *
+     * @return the configured cache
+     */
+    public static synchronized ResponseCache getInstance() {
+        return instance;
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * Starts serving a browser's matching requests from the cache. Does nothing
+     * if the driver is already attached or does not support interception.
+     *
+     * @param driver the WebDriver to attach to
+     */
+    public void attach(WebDriver driver) {
+        if (interceptors.containsKey(driver)) {
+            return;
+        }
+        if (!(driver instanceof HasDevTools)) {
+            logger.info("Response cache not available for {}; it runs uncached", driver.getClass().getSimpleName());
+            return;
+        }
+        try {
+            interceptors.put(driver, new NetworkInterceptor(driver, this::handle));
+            logger.info("Response cache attached to WebDriver");
+        } catch (RuntimeException e) {
+            logger.warn("Response cache could not intercept requests; running uncached: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Stops intercepting a browser's requests, e.g. before it quits.
+     *
+     * @param driver the WebDriver to detach from
+     */
+    public void detach(WebDriver driver) {
+        NetworkInterceptor interceptor = interceptors.remove(driver);
+        if (interceptor != null) {
+            try {
+                interceptor.close();
+            } catch (RuntimeException e) {
+                logger.debug("Error closing network interceptor", e);
+            }
+        }
+    }
+
+    /**
+     * @return hit, revalidation, fetch, miss and eviction counts
+     */
+    public String summary() {
+        synchronized (index) {
+            return String.format("Response cache (%s): %d hits, %d revalidated, %d fetched, %d replay misses, "
+                + "%d evicted, %d entries, %d KB", mode, hits.get(), revalidated.get(), fetched.get(), misses.get(),
+                evicted.get(), index.size(), totalBytes / 1024);
+        }
+    }
+
+    private HttpResponse handle(HttpRequest request) {
+        if (request.getMethod() != HttpMethod.GET || !urlPattern.matcher(request.getUri()).matches()) {
+            return NetworkInterceptor.PROCEED_WITH_REQUEST;
+        }
+        String key = key(request);
+        Entry cached = read(key);
+        if (mode == Mode.REPLAY) {
+            if (cached == null) {
+                misses.incrementAndGet();
+                logger.warn("Not in response cache, failing request: {}", request.getUri());
+                return new HttpResponse().setStatus(504)
+                    .setContent(Contents.utf8String("Not in response cache: " + request.getUri()));
+            }
+            hits.incrementAndGet();
+            return cached.toResponse();
+        }
+        if (mode == Mode.CACHE && cached != null && cached.isFresh(ttl)) {
+            hits.incrementAndGet();
+            return cached.toResponse();
+        }
+
+        try {
+            java.net.http.HttpResponse<byte[]> response = client.send(
+                networkRequest(request, mode == Mode.CACHE ? cached : null),
+                java.net.http.HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() == 304 && cached != null) {
+                revalidated.incrementAndGet();
+                cached.storedAt = System.currentTimeMillis();
+                write(key, cached);
+                return cached.toResponse();
+            }
+            fetched.incrementAndGet();
+            Entry entry = Entry.from(request.getUri(), response);
+            // Personalised responses must not be replayed to other sessions
+            if (response.statusCode() == 200 && response.headers().firstValue("set-cookie").isEmpty()) {
+                write(key, entry);
+            }
+            return entry.toResponse();
+        } catch (IOException e) {
+            if (cached != null) {
+                logger.warn("Network error for {}, serving stale cached response: {}", request.getUri(),
+                    e.getMessage());
+                hits.incrementAndGet();
+                return cached.toResponse();
+            }
+            logger.warn("Network error for {}, leaving it to the browser: {}", request.getUri(), e.getMessage());
+            return NetworkInterceptor.PROCEED_WITH_REQUEST;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return NetworkInterceptor.PROCEED_WITH_REQUEST;
+        }
+    }
+
+    private java.net.http.HttpRequest networkRequest(HttpRequest request, Entry stale) {
+        java.net.http.HttpRequest.Builder builder = java.net.http.HttpRequest.newBuilder(URI.create(request.getUri()))
+            .timeout(Duration.ofSeconds(30)).GET();
+        request.forEachHeader((name, value) -> {
+            if (!SKIPPED_REQUEST_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+                try {
+                    builder.header(name, value);
+                } catch (IllegalArgumentException e) {
+                    logger.debug("Header not allowed by HttpClient: {}", name);
+                }
+            }
+        });
+        if (stale != null) {
+            String etag = stale.header("etag");
+            String lastModified = stale.header("last-modified");
+            if (etag != null) {
+                builder.header("If-None-Match", etag);
+            }
+            if (lastModified != null) {
+                builder.header("If-Modified-Since", lastModified);
+            }
+        }
+        return builder.build();
+    }
+
+    private static String key(HttpRequest request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                .digest((request.getMethod() + " " + request.getUri()).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private Entry read(String key) {
+        synchronized (index) {
+            if (index.get(key) == null) {
+                return null;
+            }
+        }
+        try {
+            Entry entry = Entry.load(directory.resolve(key + ".meta"), directory.resolve(key + ".body"));
+            // The file time keeps the recency order across runs
+            Files.setLastModifiedTime(directory.resolve(key + ".meta"), FileTime.fromMillis(System.currentTimeMillis()));
+            return entry;
+        } catch (IOException e) {
+            logger.warn("Dropping unreadable response cache entry {}: {}", key, e.getMessage());
+            remove(key);
+            return null;
+        }
+    }
+
+    private void write(String key, Entry entry) {
+        try {
+            entry.save(directory.resolve(key + ".meta"), directory.resolve(key + ".body"));
+        } catch (IOException e) {
+            logger.warn("Error storing response cache entry for {}", entry.url, e);
+            return;
+        }
+        synchronized (index) {
+            Long previous = index.put(key, (long) entry.body.length);
+            totalBytes += entry.body.length - (previous == null ? 0 : previous);
+            Iterator<Map.Entry<String, Long>> eldest = index.entrySet().iterator();
+            while (totalBytes > maxBytes && eldest.hasNext()) {
+                Map.Entry<String, Long> victim = eldest.next();
+                if (victim.getKey().equals(key)) {
+                    continue;
+                }
+                eldest.remove();
+                totalBytes -= victim.getValue();
+                deleteFiles(victim.getKey());
+                evicted.incrementAndGet();
+            }
+        }
+    }
+
+    private void remove(String key) {
+        synchronized (index) {
+            Long size = index.remove(key);
+            if (size != null) {
+                totalBytes -= size;
+            }
+        }
+        deleteFiles(key);
+    }
+
+    private void deleteFiles(String key) {
+        try {
+            Files.deleteIfExists(directory.resolve(key + ".meta"));
+            Files.deleteIfExists(directory.resolve(key + ".body"));
+        } catch (IOException e) {
+            logger.warn("Error deleting response cache entry {}", key, e);
+        }
+    }
+
+    /**
+     * Rebuilds the in-memory index from the cache directory, oldest access first.
+     */
+    private void loadIndex() throws IOException {
+        List<Path> metas = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(file -> file.getFileName().toString().endsWith(".meta")).forEach(metas::add);
+        }
+        metas.sort(Comparator.comparingLong(file -> file.toFile().lastModified()));
+        for (Path meta : metas) {
+            String key = meta.getFileName().toString().replace(".meta", "");
+            Path body = directory.resolve(key + ".body");
+            if (Files.exists(body)) {
+                index.put(key, Files.size(body));
+                totalBytes += Files.size(body);
+            } else {
+                Files.deleteIfExists(meta);
+            }
+        }
+    }
+
+    /**
+     * One stored response: status, headers and body, with the time it was
+     * fetched or last revalidated.
+     */
+    private static final class Entry {
+        private String url;
+        private int status;
+        private long storedAt;
+        private final Map<String, List<String>> headers = new LinkedHashMap<>();
+        private byte[] body;
+
+        static Entry from(String url, java.net.http.HttpResponse<byte[]> response) {
+            Entry entry = new Entry();
+            entry.url = url;
+            entry.status = response.statusCode();
+            entry.storedAt = System.currentTimeMillis();
+            response.headers().map().forEach((name, values) -> {
+                if (!name.startsWith(":") && !SKIPPED_RESPONSE_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+                    entry.headers.put(name.toLowerCase(Locale.ROOT), values);
+                }
+            });
+            entry.body = response.body();
+            return entry;
+        }
+
+        static Entry load(Path meta, Path body) throws IOException {
+            Properties properties = new Properties();
+            try (InputStream in = Files.newInputStream(meta)) {
+                properties.load(in);
+            }
+            Entry entry = new Entry();
+            entry.url = properties.getProperty("url");
+            entry.status = Integer.parseInt(properties.getProperty("status"));
+            entry.storedAt = Long.parseLong(properties.getProperty("storedAt"));
+            for (String name : properties.stringPropertyNames()) {
+                if (name.startsWith("header.")) {
+                    entry.headers.put(name.substring("header.".length()),
+                        List.of(properties.getProperty(name).split("\n")));
+                }
+            }
+            entry.body = Files.readAllBytes(body);
+            return entry;
+        }
+
+        /**
+         * Writes through temporary files so a crash never leaves half an entry.
+         */
+        void save(Path meta, Path bodyFile) throws IOException {
+            Properties properties = new Properties();
+            properties.setProperty("url", url);
+            properties.setProperty("status", String.valueOf(status));
+            properties.setProperty("storedAt", String.valueOf(storedAt));
+            headers.forEach((name, values) -> properties.setProperty("header." + name, String.join("\n", values)));
+            Path tmpBody = Files.createTempFile(bodyFile.getParent(), "body", ".tmp");
+            Files.write(tmpBody, body);
+            Files.move(tmpBody, bodyFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            Path tmpMeta = Files.createTempFile(meta.getParent(), "meta", ".tmp");
+            try (OutputStream out = Files.newOutputStream(tmpMeta)) {
+                properties.store(out, null);
+            }
+            Files.move(tmpMeta, meta, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+
+        boolean isFresh(Duration ttl) {
+            return System.currentTimeMillis() - storedAt < ttl.toMillis();
+        }
+
+        String header(String name) {
+            List<String> values = headers.get(name);
+            return values == null || values.isEmpty() ? null : values.get(0);
+        }
+
+        HttpResponse toResponse() {
+            HttpResponse response = new HttpResponse().setStatus(status);
+            headers.forEach((name, values) -> values.forEach(value -> response.addHeader(name, value)));
+            response.setContent(Contents.bytes(body));
+            return response;
+        }
+    }
+}
@@ -0,0 +1,300 @@
+package com.kunal.seleniumassignment.utils;
+
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonOutput;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+
+/**
+ * Append-only history of test, step and page timings across runs, stored as
+ * JSON lines in {@code .run-metrics/metrics.jsonl} (or
+ * {@code -DrunMetrics.file=<path>}). Samples are buffered during the run and
+ * appended in one write by {@link #flush(String)}.
+ *
+ * <p>The newest {@value #RAW_RUNS} runs keep every sample. Once twice as
+ * many runs are raw, older runs are compacted to one median per name and run,
+ * and runs beyond the newest {@value #MAX_RUNS} are dropped.
+ */
+public class RunMetrics {
+
+    /** Wall-clock time of a whole suite run, named "suite" and the target; carries the git revision. */
+    public static final String RUN = "run";
+    public static final String TEST = "test";
+    public static final String STEP = "step";
+    public static final String PAGE = "page";
+
+    static final int RAW_RUNS = 10;
+    static final int MAX_RUNS = 200;
+
+    private static final Logger logger = LoggerFactory.getLogger(RunMetrics.class);
+    private static final Json JSON = new Json();
+    // The pid keeps JVMs started in the same second, e.g. parallel CI jobs, apart
+    private static final String RUN_ID = ZonedDateTime.now(ZoneOffset.UTC)
+        .format(DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'")) + "-" + ProcessHandle.current().pid();
+    private static final long RUN_START = System.currentTimeMillis();
+    private static final Queue<Sample> pending = new ConcurrentLinkedQueue<>();
+
+    private RunMetrics() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * One timing: of a test, step or page metric, in one run. Compacted
+     * samples are the median of {@code count} raw samples.
+     */
+    public static final class Sample {
+        final String run;
+        final String kind;
+        final String name;
+        final double ms;
+        final int count;
+        final String revision;
+
+        Sample(String run, String kind, String name, double ms, int count, String revision) {
+            this.run = run;
+            this.kind = kind;
+            this.name = name;
+            this.ms = ms;
+            this.count = count;
+            this.revision = revision;
+        }
+
+        public String getRun() {
+            return run;
+        }
+
+        public String getKind() {
+            return kind;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public double getMs() {
+            return ms;
+        }
+
+        /**
+         * @return the git revision the run tested, or null for samples other than {@link #RUN}
+         */
+        public String getRevision() {
+            return revision;
+        }
+    }
+
+    /**
+     * @return the id of the current run, its UTC start time and process id
+     */
+    public static String runId() {
+        return RUN_ID;
+    }
+
+    /**
+     * Buffers a timing of the current run.
+     *
+     * @param kind {@link #TEST}, {@link #STEP} or {@link #PAGE}
+     * @param name what was timed, stable across runs, including the browser and
+     *             target it ran against so that their timings are not mixed
+     * @param ms   the duration in milliseconds
+     */
+    public static void record(String kind, String name, double ms) {
+        pending.add(new Sample(RUN_ID, kind, name, ms, 1, null));
+    }
+
+    /**
+     * Appends the buffered timings, plus the run's own duration, to the store
+     * and compacts it when due. Later calls append only what was recorded since.
+     *
+     * @param target the sites the suite ran against, e.g. "live" or "standin";
+     *               suite durations are compared per target
+     */
+    public static synchronized void flush(String target) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<Sample> samples = new ArrayList<>();
+        for (Sample sample; (sample = pending.poll()) != null; ) {
+            samples.add(sample);
+        }
+        samples.add(new Sample(RUN_ID, RUN, "suite (" + target + ")", System.currentTimeMillis() - RUN_START, 1,
+            gitRevision()));
+        Path file = storeFile();
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                for (Sample sample : samples) {
+                    writer.write(toJson(sample));
+                    writer.newLine();
+                }
+            }
+            logger.info("Appended {} run metrics to {}", samples.size(), file);
+            compactIfDue(file);
+        } catch (IOException e) {
+            logger.error("Error writing run metrics to: {}", file, e);
+        }
+    }
+
+    /**
+     * Reads every stored sample, oldest run first.
+     *
+     * @return the stored samples
+     */
+    public static List<Sample> load() {
+        Path file = storeFile();
+        if (!Files.exists(file)) {
+            return Collections.emptyList();
+        }
+        try {
+            List<Sample> samples = new ArrayList<>();
+            for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    Map<String, Object> values = JSON.toType(line, Json.MAP_TYPE);
+                    Object count = values.get("n");
+                    samples.add(new Sample((String) values.get("run"), (String) values.get("kind"),
+                        (String) values.get("name"), ((Number) values.get("ms")).doubleValue(),
+                        count == null ? 1 : ((Number) count).intValue(), (String) values.get("rev")));
+                } catch (RuntimeException e) {
+                    // A run killed mid-write leaves a partial last line
+                    logger.warn("Skipping unreadable run metrics line: {}", line);
+                }
+            }
+            return samples;
+        } catch (IOException e) {
+            logger.error("Error reading run metrics from: {}", file, e);
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * Compacts the store once more than twice {@link #RAW_RUNS} runs hold raw samples.
+     */
+    private static void compactIfDue(Path file) throws IOException {
+        List<Sample> samples = load();
+        List<String> runs = runs(samples);
+        Set<String> rawRuns = samples.stream().filter(sample -> sample.count == 1 && !RUN.equals(sample.kind))
+            .map(sample -> sample.run).collect(Collectors.toCollection(LinkedHashSet::new));
+        if (rawRuns.size() <= 2 * RAW_RUNS && runs.size() <= MAX_RUNS) {
+            return;
+        }
+
+        List<String> kept = runs.subList(Math.max(0, runs.size() - MAX_RUNS), runs.size());
+        Set<String> raw = new LinkedHashSet<>(runs.subList(Math.max(0, runs.size() - RAW_RUNS), runs.size()));
+        Path tmp = Files.createTempFile(file.toAbsolutePath().getParent(), "metrics", ".tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+            for (String run : kept) {
+                List<Sample> ofRun = samples.stream().filter(sample -> sample.run.equals(run))
+                    .collect(Collectors.toList());
+                for (Sample sample : raw.contains(run) ? ofRun : medians(ofRun)) {
+                    writer.write(toJson(sample));
+                    writer.newLine();
+                }
+            }
+        }
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        logger.info("Compacted run metrics: {} runs kept, newest {} with every sample", kept.size(), raw.size());
+    }
+
+    /**
+     * @param samples samples of one run
+     * @return one sample per kind and name holding the median
+     */
+    static List<Sample> medians(List<Sample> samples) {
+        Map<String, List<Sample>> byName = new LinkedHashMap<>();
+        for (Sample sample : samples) {
+            byName.computeIfAbsent(sample.kind + "\u0000" + sample.name, key -> new ArrayList<>()).add(sample);
+        }
+        List<Sample> medians = new ArrayList<>();
+        for (List<Sample> group : byName.values()) {
+            Sample first = group.get(0);
+            int count = group.stream().mapToInt(sample -> sample.count).sum();
+            medians.add(new Sample(first.run, first.kind, first.name,
+                median(group.stream().map(sample -> sample.ms).collect(Collectors.toList())), count, first.revision));
+        }
+        return medians;
+    }
+
+    /**
+     * @param samples stored samples
+     * @return their run ids, oldest first
+     */
+    static List<String> runs(List<Sample> samples) {
+        return new ArrayList<>(samples.stream().map(sample -> sample.run)
+            .collect(Collectors.toCollection(LinkedHashSet::new)));
+    }
+
+    static double median(List<Double> values) {
+        List<Double> sorted = new ArrayList<>(values);
+        Collections.sort(sorted);
+        int middle = sorted.size() / 2;
+        return sorted.size() % 2 == 1 ? sorted.get(middle) : (sorted.get(middle - 1) + sorted.get(middle)) / 2;
+    }
+
+    private static String toJson(Sample sample) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("run", sample.run);
+        values.put("kind", sample.kind);
+        values.put("name", sample.name);
+        values.put("ms", Math.round(sample.ms * 10) / 10.0);
+        if (sample.count > 1) {
+            values.put("n", sample.count);
+        }
+        if (sample.revision != null) {
+            values.put("rev", sample.revision);
+        }
+        StringBuilder json = new StringBuilder();
+        try (JsonOutput out = JSON.newOutput(json)) {
+            out.setPrettyPrint(false);
+            out.write(values);
+        }
+        return json.toString();
+    }
+
+    private static Path storeFile() {
+        return Paths.get(System.getProperty("runMetrics.file", ".run-metrics" + File.separator + "metrics.jsonl"));
+    }
+
+    /**
+     * Reads the checked-out revision from .git without running git.
+     */
+    private static String gitRevision() {
+        try {
+            Path git = Paths.get(".git");
+            String head = Files.readString(git.resolve("HEAD")).trim();
+            if (head.startsWith("ref: ")) {
+                Path ref = git.resolve(head.substring(5));
+                head = Files.exists(ref) ? Files.readString(ref).trim() : head.substring(5);
+            }
+            return head.length() > 12 ? head.substring(0, 12) : head;
+        } catch (IOException e) {
+            return "unknown";
+        }
+    }
+}
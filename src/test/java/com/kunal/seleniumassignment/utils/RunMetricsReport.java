@@ -0,0 +1,199 @@
+package com.kunal.seleniumassignment.utils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Trends and regression checks over the {@link RunMetrics} history.
+ *
+ * <p>A timing regressed in a run when it is both at least
+ * {@value #MIN_SLOWDOWN_PERCENT}% and {@value #MIN_SLOWDOWN_MS} ms slower
+ * than the median of its rolling baseline, the preceding runs, and an outlier
+ * against that baseline: its modified z-score (median absolute deviation
+ * based, robust to the odd slow run in the baseline) exceeds
+ * {@value #Z_THRESHOLD}. At least {@value #MIN_BASELINE_RUNS} baseline runs
+ * are needed.
+ *
+ * <p>Run from the command line with
+ * {@code mvn -q exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.kunal.seleniumassignment.utils.RunMetricsReport
+ * -Dexec.args="[--window N] [--last N] [--kind test|step|page|run] [--filter text] [--fail]"}.
+ */
+public class RunMetricsReport {
+
+    public static final int DEFAULT_WINDOW = 10;
+    static final int MIN_BASELINE_RUNS = 5;
+    static final double MIN_SLOWDOWN_PERCENT = 10;
+    static final double MIN_SLOWDOWN_MS = 5;
+    static final double Z_THRESHOLD = 3.5;
+
+    /**
+     * A timing that became significantly slower.
+     */
+    public static final class Regression {
+        private final String kind;
+        private final String name;
+        private final double baselineMs;
+        private final double currentMs;
+        private final double zScore;
+
+        Regression(String kind, String name, double baselineMs, double currentMs, double zScore) {
+            this.kind = kind;
+            this.name = name;
+            this.baselineMs = baselineMs;
+            this.currentMs = currentMs;
+            this.zScore = zScore;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s %s: %.0f ms -> %.0f ms (+%.0f ms, +%.0f%%, z=%s)", kind, name, baselineMs,
+                currentMs, currentMs - baselineMs, (currentMs - baselineMs) * 100 / baselineMs,
+                Double.isInfinite(zScore) ? "inf" : String.format("%.1f", zScore));
+        }
+    }
+
+    private RunMetricsReport() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Compares every timing of a run with its baseline of preceding runs.
+     *
+     * @param samples the history, oldest run first
+     * @param run     the run to check
+     * @param window  how many preceding runs form the baseline
+     * @return the timings that regressed, slowest change first
+     */
+    public static List<Regression> findRegressions(List<RunMetrics.Sample> samples, String run, int window) {
+        List<String> runs = RunMetrics.runs(samples);
+        int position = runs.indexOf(run);
+        if (position < 0) {
+            return List.of();
+        }
+        Map<String, Map<String, Double>> series = perRunMedians(samples);
+        List<Regression> regressions = new ArrayList<>();
+        for (Map.Entry<String, Map<String, Double>> entry : series.entrySet()) {
+            Double current = entry.getValue().get(run);
+            if (current == null) {
+                continue;
+            }
+            List<Double> baseline = new ArrayList<>();
+            for (int i = position - 1; i >= 0 && baseline.size() < window; i--) {
+                Double value = entry.getValue().get(runs.get(i));
+                if (value != null) {
+                    baseline.add(value);
+                }
+            }
+            if (baseline.size() < MIN_BASELINE_RUNS) {
+                continue;
+            }
+            double median = RunMetrics.median(baseline);
+            double mad = RunMetrics.median(baseline.stream().map(value -> Math.abs(value - median))
+                .collect(Collectors.toList()));
+            double zScore = mad == 0 ? Double.POSITIVE_INFINITY : 0.6745 * (current - median) / mad;
+            if (current - median >= MIN_SLOWDOWN_MS && current >= median * (1 + MIN_SLOWDOWN_PERCENT / 100)
+                && zScore > Z_THRESHOLD) {
+                String[] key = entry.getKey().split("\u0000", 2);
+                regressions.add(new Regression(key[0], key[1], median, current, zScore));
+            }
+        }
+        regressions.sort((a, b) -> Double.compare(b.currentMs - b.baselineMs, a.currentMs - a.baselineMs));
+        return regressions;
+    }
+
+    /**
+     * Prints the trend of every timing and the regressions of the latest run.
+     *
+     * @param args options, see the class comment
+     */
+    public static void main(String[] args) {
+        int window = DEFAULT_WINDOW;
+        int last = 8;
+        String kind = null;
+        String filter = null;
+        boolean fail = false;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--window":
+                    window = Integer.parseInt(args[++i]);
+                    break;
+                case "--last":
+                    last = Integer.parseInt(args[++i]);
+                    break;
+                case "--kind":
+                    kind = args[++i];
+                    break;
+                case "--filter":
+                    filter = args[++i];
+                    break;
+                case "--fail":
+                    fail = true;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        List<RunMetrics.Sample> samples = RunMetrics.load();
+        List<String> runs = RunMetrics.runs(samples);
+        if (runs.isEmpty()) {
+            System.out.println("No run metrics recorded yet.");
+            return;
+        }
+        String latest = runs.get(runs.size() - 1);
+        List<String> shown = runs.subList(Math.max(0, runs.size() - last), runs.size());
+        System.out.printf("%d runs, %s to %s; showing the last %d (ms)%n%n", runs.size(), runs.get(0), latest,
+            shown.size());
+
+        for (Map.Entry<String, Map<String, Double>> entry : perRunMedians(samples).entrySet()) {
+            String[] key = entry.getKey().split("\u0000", 2);
+            if ((kind != null && !kind.equals(key[0])) || (filter != null && !key[1].contains(filter))) {
+                continue;
+            }
+            StringBuilder trend = new StringBuilder();
+            for (String run : shown) {
+                Double value = entry.getValue().get(run);
+                trend.append(String.format("%8s", value == null ? "-" : String.valueOf(Math.round(value))));
+            }
+            System.out.printf("%-5s %-72.72s%s%n", key[0], key[1], trend);
+        }
+
+        List<Regression> regressions = findRegressions(samples, latest, window);
+        if (kind != null || filter != null) {
+            final String kindFilter = kind;
+            final String nameFilter = filter;
+            regressions = regressions.stream()
+                .filter(r -> (kindFilter == null || kindFilter.equals(r.kind))
+                    && (nameFilter == null || r.name.contains(nameFilter)))
+                .collect(Collectors.toList());
+        }
+        System.out.printf("%nRegressions in %s against the previous %d runs: %s%n", latest, window,
+            regressions.isEmpty() ? "none" : "");
+        regressions.forEach(regression -> System.out.println("  " + regression));
+        if (fail && !regressions.isEmpty()) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * @return per kind and name, the median of each run's samples, keyed by run
+     */
+    private static Map<String, Map<String, Double>> perRunMedians(List<RunMetrics.Sample> samples) {
+        Map<String, Map<String, List<Double>>> grouped = new LinkedHashMap<>();
+        for (RunMetrics.Sample sample : samples) {
+            grouped.computeIfAbsent(sample.getKind() + "\u0000" + sample.getName(), key -> new LinkedHashMap<>())
+                .computeIfAbsent(sample.getRun(), run -> new ArrayList<>()).add(sample.getMs());
+        }
+        Map<String, Map<String, Double>> medians = new LinkedHashMap<>();
+        grouped.forEach((key, byRun) -> {
+            Map<String, Double> series = new LinkedHashMap<>();
+            byRun.forEach((run, values) -> series.put(run, RunMetrics.median(values)));
+            medians.put(key, series);
+        });
+        return medians;
+    }
+}
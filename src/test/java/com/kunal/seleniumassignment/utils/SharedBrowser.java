@@ -0,0 +1,324 @@
+package com.kunal.seleniumassignment.utils;
+
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.SessionNotCreatedException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WindowType;
+import org.openqa.selenium.bidi.browsingcontext.BrowsingContext;
+import org.openqa.selenium.bidi.browsingcontext.CreateContextParameters;
+import org.openqa.selenium.bidi.browsingcontext.ReadinessState;
+import org.openqa.selenium.bidi.module.Browser;
+import org.openqa.selenium.remote.UnreachableBrowserException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * One browser process shared by many tests. Each test gets its own WebDriver
+ * BiDi user context (separate cookies and storage) with its own tab, exposed as
+ * a regular {@link WebDriver}.
+ *
+ * <p>Page loads and screenshots, the long-running calls, are sent as BiDi
+ * {@code browsingContext} commands addressed by the tab's context id, so the
+ * contexts load pages in parallel. Classic WebDriver commands always act on
+ * the session's current tab: they are serialized on the shared session,
+ * switching to the caller's tab first when another context ran last. Whether
+ * this beats a browser per test depends on the page mix; compare both with
+ * {@code IsolationBenchmark} against the target site.
+ */
+public class SharedBrowser {
+
+    private static final Logger logger = LoggerFactory.getLogger(SharedBrowser.class);
+    private static final Map<String, SharedBrowser> browsers = new ConcurrentHashMap<>();
+
+    private final String browser;
+    private final WebDriver driver;
+    private final Object commandLock = new Object();
+    private final Map<WebDriver, String[]> contexts = new ConcurrentHashMap<>();
+    private String currentHandle;
+    private volatile boolean broken;
+
+    private SharedBrowser(String browser, WebDriver driver) {
+        this.browser = browser;
+        this.driver = driver;
+        this.currentHandle = driver.getWindowHandle();
+    }
+
+    /**
+     * Returns the shared browser for the given browser name, starting it with
+     * BiDi enabled on first use. Once a shared browser has crashed it is not
+     * restarted, so the remaining tests run in browsers of their own.
+     *
+     * @param browser  the name of the browser (e.g., "chrome", "firefox")
+     * @param headless whether to run in headless mode
+     * @param profile  the launch profile used when the browser is started
+     * @return the shared browser
+     * @throws IllegalStateException if the shared browser has crashed
+     */
+    public static synchronized SharedBrowser get(String browser, String headless, BrowserProfile profile) {
+        String key = browser.toLowerCase();
+        SharedBrowser shared = browsers.get(key);
+        if (shared != null && shared.broken) {
+            throw new IllegalStateException("Shared " + browser + " browser has crashed");
+        }
+        if (shared == null) {
+            shared = new SharedBrowser(key, WebDriverManagerUtil.createDriver(browser, headless, profile, true, false));
+            browsers.put(key, shared);
+            logger.info("Started shared {} browser for isolated contexts", browser);
+        }
+        return shared;
+    }
+
+    /**
+     * Quits every shared browser.
+     */
+    public static synchronized void quitAll() {
+        for (SharedBrowser shared : browsers.values()) {
+            shared.quit();
+        }
+        browsers.clear();
+    }
+
+    /**
+     * @return true once the shared session has crashed or become unreachable
+     */
+    public boolean isBroken() {
+        return broken;
+    }
+
+    /**
+     * Opens a new isolated user context with one tab.
+     *
+     * @return a WebDriver bound to the new context; {@code quit()} closes only the context
+     */
+    public WebDriver openContext() {
+        synchronized (commandLock) {
+            try {
+                String userContext = new Browser(driver).createUserContext();
+                String handle = new BrowsingContext(driver,
+                        new CreateContextParameters(WindowType.TAB).userContext(userContext)).getId();
+                WebDriver contextDriver = (WebDriver) wrap(driver, handle, new Class<?>[] { WebDriver.class,
+                        org.openqa.selenium.JavascriptExecutor.class, org.openqa.selenium.TakesScreenshot.class });
+                contexts.put(contextDriver, new String[] { userContext, handle });
+                logger.info("Opened isolated {} context {} ({} open)", browser, handle, contexts.size());
+                return contextDriver;
+            } catch (RuntimeException e) {
+                markBrokenIfCrashed(e);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Closes the tab and user context behind a context driver.
+     *
+     * @param contextDriver a driver returned by {@link #openContext()}
+     */
+    public void closeContext(WebDriver contextDriver) {
+        String[] context = contexts.remove(contextDriver);
+        if (context == null || broken) {
+            return;
+        }
+        synchronized (commandLock) {
+            try {
+                new BrowsingContext(driver, context[1]).close();
+                new Browser(driver).removeUserContext(context[0]);
+                if (context[1].equals(currentHandle)) {
+                    currentHandle = null;
+                }
+                logger.info("Closed isolated {} context {} ({} open)", browser, context[1], contexts.size());
+            } catch (RuntimeException e) {
+                markBrokenIfCrashed(e);
+                logger.warn("Error closing isolated context {}", context[1], e);
+            }
+        }
+    }
+
+    /**
+     * @param contextDriver any driver
+     * @return true if the driver is a context of a shared browser
+     */
+    public static boolean isContextDriver(WebDriver contextDriver) {
+        return Proxy.isProxyClass(contextDriver.getClass())
+                && Proxy.getInvocationHandler(contextDriver) instanceof ContextHandler;
+    }
+
+    /**
+     * Closes a context driver in whichever shared browser owns it.
+     *
+     * @param contextDriver a driver returned by {@link #openContext()}
+     */
+    public static void close(WebDriver contextDriver) {
+        ((ContextHandler) Proxy.getInvocationHandler(contextDriver)).owner().closeContext(contextDriver);
+    }
+
+    private void quit() {
+        contexts.clear();
+        try {
+            WebDriverManagerUtil.quit(driver);
+        } catch (Exception e) {
+            logger.warn("Error quitting shared {} browser", browser, e);
+        }
+    }
+
+    private void markBrokenIfCrashed(Throwable e) {
+        if (e instanceof NoSuchSessionException || e instanceof UnreachableBrowserException
+                || e instanceof SessionNotCreatedException) {
+            broken = true;
+            logger.error("Shared {} browser crashed; new tests fall back to their own browser", browser);
+        }
+    }
+
+    private Object wrap(Object target, String handle, Class<?>[] interfaces) {
+        return Proxy.newProxyInstance(SharedBrowser.class.getClassLoader(), interfaces,
+                new ContextHandler(target, handle));
+    }
+
+    /**
+     * Runs page loads and screenshots as BiDi commands of the context's tab and
+     * every other call on the shared session after switching to that tab, and
+     * wraps returned Selenium objects so their calls do the same.
+     */
+    private final class ContextHandler implements InvocationHandler {
+        private final Object target;
+        private final String handle;
+
+        ContextHandler(Object target, String handle) {
+            this.target = target;
+            this.handle = handle;
+        }
+
+        SharedBrowser owner() {
+            return SharedBrowser.this;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (target == driver && (name.equals("quit") || name.equals("close"))) {
+                closeContext((WebDriver) proxy);
+                return null;
+            }
+            if (name.equals("equals")) {
+                return proxy == args[0];
+            }
+            if (name.equals("hashCode")) {
+                return System.identityHashCode(proxy);
+            }
+            if (name.equals("toString")) {
+                return target + " [context " + handle + "]";
+            }
+            if (isPageLoad(method, args)) {
+                // Waits for the load without holding the session, so other contexts keep running
+                navigate(String.valueOf(args[0]));
+                return null;
+            }
+            if (target == driver && name.equals("getScreenshotAs")) {
+                return ((OutputType<?>) args[0]).convertFromBase64Png(bidi(() -> browsingContext().captureScreenshot()));
+            }
+
+            Object result;
+            synchronized (commandLock) {
+                if (!handle.equals(currentHandle)) {
+                    driver.switchTo().window(handle);
+                    currentHandle = handle;
+                }
+                try {
+                    result = method.invoke(target, unwrapArguments(args));
+                } catch (InvocationTargetException e) {
+                    markBrokenIfCrashed(e.getCause());
+                    throw e.getCause();
+                }
+            }
+            return wrapResult(result, method.getReturnType());
+        }
+
+        /**
+         * @return true for {@code get(url)} and {@code navigate().to(url)}
+         */
+        private boolean isPageLoad(Method method, Object[] args) {
+            if (args == null || args.length != 1 || !(args[0] instanceof String || args[0] instanceof URL)) {
+                return false;
+            }
+            return (target == driver && method.getName().equals("get"))
+                    || (target instanceof WebDriver.Navigation && method.getName().equals("to"));
+        }
+
+        private void navigate(String url) {
+            bidi(() -> browsingContext().navigate(url, ReadinessState.COMPLETE));
+        }
+
+        private BrowsingContext browsingContext() {
+            return new BrowsingContext(driver, handle);
+        }
+
+        private <T> T bidi(Supplier<T> command) {
+            try {
+                return command.get();
+            } catch (RuntimeException e) {
+                markBrokenIfCrashed(e);
+                throw e;
+            }
+        }
+
+        /**
+         * Hands the real elements to the shared session, e.g. for executeScript.
+         */
+        private Object[] unwrapArguments(Object[] args) {
+            if (args == null) {
+                return null;
+            }
+            Object[] unwrapped = args.clone();
+            for (int i = 0; i < unwrapped.length; i++) {
+                unwrapped[i] = unwrap(unwrapped[i]);
+                if (unwrapped[i] instanceof Object[]) {
+                    Object[] varargs = ((Object[]) unwrapped[i]).clone();
+                    for (int j = 0; j < varargs.length; j++) {
+                        varargs[j] = unwrap(varargs[j]);
+                    }
+                    unwrapped[i] = varargs;
+                }
+            }
+            return unwrapped;
+        }
+
+        private Object unwrap(Object arg) {
+            if (arg != null && Proxy.isProxyClass(arg.getClass())
+                    && Proxy.getInvocationHandler(arg) instanceof ContextHandler) {
+                return ((ContextHandler) Proxy.getInvocationHandler(arg)).target;
+            }
+            return arg;
+        }
+
+        private Object wrapResult(Object result, Class<?> returnType) {
+            if (result == null) {
+                return null;
+            }
+            if (result instanceof List) {
+                List<Object> wrapped = new ArrayList<>();
+                for (Object item : (List<?>) result) {
+                    wrapped.add(item instanceof org.openqa.selenium.WebElement
+                            ? wrap(item, handle, new Class<?>[] { org.openqa.selenium.WebElement.class })
+                            : item);
+                }
+                return wrapped;
+            }
+            // Element, options, navigation and target locator calls all hit the shared session
+            if (returnType.isInterface() && returnType.getName().startsWith("org.openqa.selenium.")) {
+                return wrap(result, handle, new Class<?>[] { returnType });
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,299 @@
+package com.kunal.seleniumassignment.utils;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Embedded HTTP server serving stand-in pages for the ERAIL station search and
+ * the OrangeHRM login flow, so the suite can run offline and with
+ * deterministic timing. Latency, bandwidth and error rate can be injected.
+ *
+ * <p>Routes:
+ * <ul>
+ * <li>{@code /erail/} - station search page with autocomplete and calendar</li>
+ * <li>{@code /erail/stations?q=DEL} - autocomplete lookup (JSON)</li>
+ * <li>{@code /orangehrm/auth/login} - login page</li>
+ * <li>{@code /orangehrm/auth/validate} - login form target (POST)</li>
+ * <li>{@code /orangehrm/dashboard/index} - dashboard, requires the session cookie</li>
+ * </ul>
+ */
+public class StandInServer {
+
+    private static final Logger logger = LoggerFactory.getLogger(StandInServer.class);
+    private static final String RESOURCE_ROOT = "standin/";
+    private static final String SESSION_COOKIE = "orangehrm";
+    private static final int CHUNK_SIZE = 1024;
+
+    private static StandInServer instance;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final long latencyMs;
+    private final long bandwidthBytesPerSecond;
+    private final double errorRate;
+    private final Random random;
+    private final List<String[]> stations;
+
+    private StandInServer(int port, long latencyMs, long bandwidthKbps, double errorRate, long seed)
+            throws IOException {
+        this.latencyMs = latencyMs;
+        this.bandwidthBytesPerSecond = bandwidthKbps * 1024 / 8;
+        this.errorRate = errorRate;
+        this.random = new Random(seed);
+        this.stations = loadStations();
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        // Handlers mostly sleep for injected latency and throttling, so a virtual thread each
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(executor);
+        server.createContext("/erail/stations", exchange -> handle(exchange, this::stations));
+        server.createContext("/erail/", exchange -> handle(exchange, ex -> page(ex, "erail.html")));
+        server.createContext("/orangehrm/auth/login", exchange -> handle(exchange, this::loginPage));
+        server.createContext("/orangehrm/auth/validate", exchange -> handle(exchange, this::validate));
+        server.createContext("/orangehrm/dashboard/index", exchange -> handle(exchange, this::dashboard));
+    }
+
+    /**
+     * Starts the shared stand-in server if it is not already running.
+     *
+     * @param port          the port to listen on, 0 for any free port
+     * @param latencyMs     delay added before every response
+     * @param bandwidthKbps response throughput limit in kilobits per second, 0 for unlimited
+     * @param errorRate     fraction of requests answered with HTTP 503, between 0 and 1
+     * @param seed          seed for the error injection so runs are reproducible
+     * @return the running server
+     */
+    public static synchronized StandInServer start(int port, long latencyMs, long bandwidthKbps, double errorRate,
+            long seed) {
+        if (instance == null) {
+            try {
+                instance = new StandInServer(port, latencyMs, bandwidthKbps, errorRate, seed);
+                instance.server.start();
+                logger.info("Stand-in server started at {} (latency: {} ms, bandwidth: {} kbps, error rate: {})",
+                        instance.getBaseUrl(), latencyMs, bandwidthKbps, errorRate);
+            } catch (IOException e) {
+                logger.error("Error starting stand-in server on port: {}", port, e);
+                throw new RuntimeException("Failed to start stand-in server on port: " + port, e);
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Returns the running server, or null if it has not been started.
+     *
+     * @return the running server
+     */
+    public static synchronized StandInServer getInstance() {
+        return instance;
+    }
+
+    /**
+     * Stops the shared stand-in server if it is running.
+     */
+    public static synchronized void stop() {
+        if (instance != null) {
+            instance.server.stop(0);
+            instance.executor.shutdownNow();
+            logger.info("Stand-in server stopped");
+            instance = null;
+        }
+    }
+
+    /**
+     * Returns the base URL of the server, without a trailing slash.
+     *
+     * @return the base URL
+     */
+    public String getBaseUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    private interface Handler {
+        void handle(HttpExchange exchange) throws IOException;
+    }
+
+    /**
+     * Applies the injected latency and errors before delegating to the route.
+     */
+    private void handle(HttpExchange exchange, Handler handler) throws IOException {
+        try {
+            if (latencyMs > 0) {
+                Thread.sleep(latencyMs);
+            }
+            if (shouldFail()) {
+                send(exchange, 503, "text/plain", "Injected stand-in error".getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+            handler.handle(exchange);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            logger.error("Error serving stand-in request: {}", exchange.getRequestURI(), e);
+            send(exchange, 500, "text/plain", "Stand-in error".getBytes(StandardCharsets.UTF_8));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private boolean shouldFail() {
+        if (errorRate <= 0) {
+            return false;
+        }
+        synchronized (random) {
+            return random.nextDouble() < errorRate;
+        }
+    }
+
+    private void page(HttpExchange exchange, String resource) throws IOException {
+        send(exchange, 200, "text/html; charset=UTF-8", readResource(resource).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void stations(HttpExchange exchange) throws IOException {
+        String query = parseForm(exchange.getRequestURI().getRawQuery()).getOrDefault("q", "")
+                .toLowerCase(Locale.ROOT);
+        StringBuilder json = new StringBuilder("[");
+        for (String[] station : stations) {
+            if (!query.isEmpty() && (station[0].toLowerCase(Locale.ROOT).startsWith(query)
+                    || station[1].toLowerCase(Locale.ROOT).contains(query))) {
+                if (json.length() > 1) {
+                    json.append(',');
+                }
+                json.append("{\"code\":\"").append(station[0]).append("\",\"name\":\"").append(station[1])
+                        .append("\"}");
+            }
+        }
+        json.append(']');
+        send(exchange, 200, "application/json", json.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void loginPage(HttpExchange exchange) throws IOException {
+        boolean invalid = "invalid".equals(parseForm(exchange.getRequestURI().getRawQuery()).get("error"));
+        String alert = invalid
+                ? "<div class=\"oxd-alert oxd-alert--error\" role=\"alert\"><div class=\"oxd-alert-content\">"
+                        + "<p class=\"oxd-text oxd-text--p oxd-alert-content-text\">Invalid credentials</p></div></div>"
+                : "";
+        String html = readResource("orangehrm-login.html").replace("<!--ALERT-->", alert);
+        send(exchange, 200, "text/html; charset=UTF-8", html.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void validate(HttpExchange exchange) throws IOException {
+        if (!"POST".equalsIgnoreCase(exchange.getRequestMethod())) {
+            redirect(exchange, "/orangehrm/auth/login");
+            return;
+        }
+        String body;
+        try (InputStream in = exchange.getRequestBody()) {
+            body = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        Map<String, String> form = parseForm(body);
+        if (OrangeHRMCredentials.isValid(form.get("username"), form.get("password"))) {
+            exchange.getResponseHeaders().add("Set-Cookie",
+                    SESSION_COOKIE + "=" + UUID.randomUUID() + "; Path=/orangehrm; HttpOnly");
+            redirect(exchange, "/orangehrm/dashboard/index");
+        } else {
+            redirect(exchange, "/orangehrm/auth/login?error=invalid");
+        }
+    }
+
+    private void dashboard(HttpExchange exchange) throws IOException {
+        List<String> cookies = exchange.getRequestHeaders().getOrDefault("Cookie", List.of());
+        boolean loggedIn = cookies.stream().anyMatch(cookie -> cookie.contains(SESSION_COOKIE + "="));
+        if (!loggedIn) {
+            redirect(exchange, "/orangehrm/auth/login");
+            return;
+        }
+        page(exchange, "orangehrm-dashboard.html");
+    }
+
+    private void redirect(HttpExchange exchange, String location) throws IOException {
+        exchange.getResponseHeaders().add("Location", location);
+        exchange.sendResponseHeaders(302, -1);
+    }
+
+    /**
+     * Writes the response body in chunks, pacing them to the configured bandwidth.
+     */
+    private void send(HttpExchange exchange, int status, String contentType, byte[] body) throws IOException {
+        exchange.getResponseHeaders().add("Content-Type", contentType);
+        exchange.getResponseHeaders().add("Cache-Control", "no-store");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            for (int offset = 0; offset < body.length; offset += CHUNK_SIZE) {
+                int length = Math.min(CHUNK_SIZE, body.length - offset);
+                out.write(body, offset, length);
+                if (bandwidthBytesPerSecond > 0) {
+                    out.flush();
+                    try {
+                        Thread.sleep(length * 1000L / bandwidthBytesPerSecond);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    private static Map<String, String> parseForm(String encoded) {
+        Map<String, String> values = new HashMap<>();
+        if (encoded == null || encoded.isEmpty()) {
+            return values;
+        }
+        for (String pair : encoded.split("&")) {
+            int separator = pair.indexOf('=');
+            String key = separator < 0 ? pair : pair.substring(0, separator);
+            String value = separator < 0 ? "" : pair.substring(separator + 1);
+            values.put(URLDecoder.decode(key, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return values;
+    }
+
+    private static String readResource(String name) throws IOException {
+        try (InputStream in = StandInServer.class.getClassLoader().getResourceAsStream(RESOURCE_ROOT + name)) {
+            if (in == null) {
+                throw new IOException("Stand-in resource not found: " + RESOURCE_ROOT + name);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static List<String[]> loadStations() throws IOException {
+        List<String[]> loaded = new ArrayList<>();
+        try (InputStream in = StandInServer.class.getClassLoader()
+                .getResourceAsStream(RESOURCE_ROOT + "erail-stations.csv")) {
+            if (in == null) {
+                throw new IOException("Stand-in resource not found: " + RESOURCE_ROOT + "erail-stations.csv");
+            }
+            BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int separator = line.indexOf(',');
+                if (separator > 0) {
+                    loaded.add(new String[] { line.substring(0, separator).trim(), line.substring(separator + 1).trim() });
+                }
+            }
+        }
+        return loaded;
+    }
+}
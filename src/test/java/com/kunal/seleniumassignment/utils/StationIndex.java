@@ -0,0 +1,87 @@
+package com.kunal.seleniumassignment.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * In-memory index of the station dropdown options scraped per station code,
+ * so expected stations are verified without a round trip through a
+ * spreadsheet. Station names match ignoring case and surrounding or repeated
+ * whitespace, like the spreadsheet check did.
+ */
+public class StationIndex {
+
+    private final Map<String, List<String>> optionsByCode = new LinkedHashMap<>();
+    private final Map<String, Set<String>> codesByStation = new HashMap<>();
+
+    /**
+     * @param code    the station code typed into the dropdown
+     * @param options the station names it offered, in dropdown order
+     */
+    public void add(String code, List<String> options) {
+        optionsByCode.put(code, List.copyOf(options));
+        for (String option : options) {
+            codesByStation.computeIfAbsent(normalize(option), name -> new HashSet<>()).add(code);
+        }
+    }
+
+    /**
+     * @param station a station name
+     * @return true if any station code offered it
+     */
+    public boolean contains(String station) {
+        return codesByStation.containsKey(normalize(station));
+    }
+
+    /**
+     * @param code    a station code
+     * @param station a station name
+     * @return true if the dropdown of that code offered it
+     */
+    public boolean contains(String code, String station) {
+        return codesByStation.getOrDefault(normalize(station), Set.of()).contains(code);
+    }
+
+    /**
+     * Verifies a set of expected stations per code in one pass.
+     *
+     * @param expected station names each code's dropdown must offer
+     * @return per code, the expected stations it did not offer; empty if all were found
+     */
+    public Map<String, List<String>> missing(Map<String, List<String>> expected) {
+        Map<String, List<String>> missing = new LinkedHashMap<>();
+        expected.forEach((code, stations) -> {
+            for (String station : stations) {
+                if (!contains(code, station)) {
+                    missing.computeIfAbsent(code, c -> new ArrayList<>()).add(station);
+                }
+            }
+        });
+        return missing;
+    }
+
+    /**
+     * @return the options of each code, in the order the codes were added
+     */
+    public Map<String, List<String>> getOptionsByCode() {
+        return Collections.unmodifiableMap(optionsByCode);
+    }
+
+    /**
+     * @return the number of options over all codes
+     */
+    public int size() {
+        return optionsByCode.values().stream().mapToInt(List::size).sum();
+    }
+
+    private static String normalize(String station) {
+        return station == null ? "" : station.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,164 @@
+package com.kunal.seleniumassignment.utils;
+
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.Status;
+import org.slf4j.Logger;
+import org.slf4j.helpers.MessageFormatter;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Logs a test step once to both SLF4J and the current Extent report node.
+ * Messages use SLF4J {@code {}} placeholders and are only formatted when at
+ * least one sink will record them, and then only once for both sinks.
+ *
+ * <p>The time since the previous step of the test is recorded in
+ * {@link RunMetrics} under the step's pattern, so every step is timed by the
+ * message that reports its completion.
+ */
+public class StepLogger {
+
+    private final Logger logger;
+    private final Supplier<ExtentTest> reportNode;
+    private final String stepPrefix;
+    // Step names by pattern for the current context, so timing a step does not build a string
+    private final Map<String, String> stepNames = new ConcurrentHashMap<>();
+    private long lastStepNanos;
+    private String context = "";
+
+    /**
+     * @param logger     the SLF4J logger of the test class
+     * @param reportNode supplies the Extent node of the running test, may return null
+     */
+    public StepLogger(Logger logger, Supplier<ExtentTest> reportNode) {
+        this.logger = logger;
+        this.reportNode = reportNode;
+        this.stepPrefix = logger.getName().substring(logger.getName().lastIndexOf('.') + 1) + ": ";
+    }
+
+    /**
+     * Starts timing the steps of a test, so that its first step is not timed
+     * from the last step of the previous test.
+     *
+     * @param context appended to the step names, e.g. " on chrome (standin)",
+     *                so timings of different browsers and targets are kept apart
+     */
+    public void startTiming(String context) {
+        if (!context.equals(this.context)) {
+            this.context = context;
+            stepNames.clear();
+        }
+        lastStepNanos = System.nanoTime();
+    }
+
+    public void info(String pattern) {
+        log(Status.INFO, pattern, 0, null, null, null);
+    }
+
+    public void info(String pattern, Object arg) {
+        log(Status.INFO, pattern, 1, arg, null, null);
+    }
+
+    public void info(String pattern, Object arg1, Object arg2) {
+        log(Status.INFO, pattern, 2, arg1, arg2, null);
+    }
+
+    public void pass(String pattern) {
+        log(Status.PASS, pattern, 0, null, null, null);
+    }
+
+    public void pass(String pattern, Object arg) {
+        log(Status.PASS, pattern, 1, arg, null, null);
+    }
+
+    public void pass(String pattern, Object arg1, Object arg2) {
+        log(Status.PASS, pattern, 2, arg1, arg2, null);
+    }
+
+    public void fail(String pattern) {
+        log(Status.FAIL, pattern, 0, null, null, null);
+    }
+
+    public void fail(String pattern, Object arg) {
+        log(Status.FAIL, pattern, 1, arg, null, null);
+    }
+
+    public void fail(String pattern, Object arg1, Object arg2) {
+        log(Status.FAIL, pattern, 2, arg1, arg2, null);
+    }
+
+    public void warn(String pattern, Object... args) {
+        log(Status.WARNING, pattern, -1, null, null, args);
+    }
+
+    /**
+     * Formats the message at most once and fans it out to the enabled sinks.
+     * Fixed-arity arguments avoid a varargs array for the common call sites.
+     */
+    private void log(Status status, String pattern, int argCount, Object arg1, Object arg2, Object[] args) {
+        long now = System.nanoTime();
+        if (lastStepNanos != 0) {
+            RunMetrics.record(RunMetrics.STEP, stepName(pattern), (now - lastStepNanos) / 1_000_000.0);
+        }
+        lastStepNanos = now;
+
+        ExtentTest node = reportNode.get();
+        boolean slf4jEnabled = isEnabled(status);
+        if (node == null && !slf4jEnabled) {
+            return;
+        }
+
+        String message;
+        switch (argCount) {
+            case 0:
+                message = pattern;
+                break;
+            case 1:
+                message = MessageFormatter.format(pattern, arg1).getMessage();
+                break;
+            case 2:
+                message = MessageFormatter.format(pattern, arg1, arg2).getMessage();
+                break;
+            default:
+                message = MessageFormatter.arrayFormat(pattern, args).getMessage();
+        }
+
+        if (slf4jEnabled) {
+            switch (status) {
+                case FAIL:
+                    logger.error(message);
+                    break;
+                case WARNING:
+                    logger.warn(message);
+                    break;
+                default:
+                    logger.info(message);
+            }
+        }
+        if (node != null) {
+            node.log(status, message);
+        }
+    }
+
+    private String stepName(String pattern) {
+        String name = stepNames.get(pattern);
+        if (name == null) {
+            name = stepPrefix + pattern + context;
+            stepNames.put(pattern, name);
+        }
+        return name;
+    }
+
+    private boolean isEnabled(Status status) {
+        switch (status) {
+            case FAIL:
+                return logger.isErrorEnabled();
+            case WARNING:
+                return logger.isWarnEnabled();
+            default:
+                return logger.isInfoEnabled();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.kunal.seleniumassignment.utils;
+
+import java.io.File;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records which data files each test class reads, so test selection can tell
+ * which tests a changed data file affects. The reading test class is found on
+ * the call stack, which also covers reads made by page objects and data
+ * providers on behalf of a test.
+ */
+public class TestImpact {
+
+    private static final String TESTS_PACKAGE = "com.kunal.seleniumassignment.tests.";
+    private static final Map<String, Set<String>> dataFiles = new ConcurrentHashMap<>();
+
+    private TestImpact() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Records a data file read by the test class on the current call stack.
+     * Reads outside of a test are ignored.
+     *
+     * @param file the data file
+     */
+    public static void recordDataFile(File file) {
+        StackWalker.getInstance().walk(frames -> frames.map(StackWalker.StackFrame::getClassName)
+                .filter(name -> name.startsWith(TESTS_PACKAGE)).findFirst())
+            .ifPresent(testClass -> dataFiles.computeIfAbsent(topLevel(testClass), k -> ConcurrentHashMap.newKeySet())
+                .add(file.getAbsolutePath()));
+    }
+
+    /**
+     * @param testClass the fully qualified name of a test class
+     * @return the absolute paths of the data files it read in this run
+     */
+    public static Set<String> dataFilesOf(String testClass) {
+        return dataFiles.getOrDefault(testClass, Set.of());
+    }
+
+    private static String topLevel(String className) {
+        int nested = className.indexOf('$');
+        return nested < 0 ? className : className.substring(0, nested);
+    }
+}
@@ -0,0 +1,216 @@
+package com.kunal.seleniumassignment.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * Collects timing samples for waits and locator lookups made through the
+ * framework utilities and renders a ranked report at the end of a suite.
+ */
+public class WaitProfiler {
+
+    private static final Logger logger = LoggerFactory.getLogger(WaitProfiler.class);
+    private static final long SLOW_LOCATOR_THRESHOLD_MS = Long.getLong("profiler.slowLocatorThresholdMs", 200);
+    private static final int MIN_SAMPLES_TO_FLAG = 3;
+    private static final int REPORT_LIMIT = 20;
+    private static final int MAX_SAMPLES_PER_KEY = Integer.getInteger("profiler.maxSamplesPerKey", 1024);
+
+    private static final Map<String, Stats> waits = new ConcurrentHashMap<>();
+    private static final Map<String, Stats> lookups = new ConcurrentHashMap<>();
+    private static final ThreadLocal<String> lastLocator = new ThreadLocal<>();
+
+    /**
+     * Result of a single wait or lookup.
+     */
+    public enum Outcome {
+        SUCCESS, TIMEOUT, NOT_FOUND, ERROR
+    }
+
+    private WaitProfiler() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Records one wait performed by {@link WaitUtility}.
+     *
+     * @param target       description of the element or locator waited on
+     * @param condition    name of the expected condition
+     * @param elapsedNanos time spent in the wait
+     * @param polls        number of times the condition was evaluated
+     * @param outcome      how the wait ended
+     */
+    public static void recordWait(String target, String condition, long elapsedNanos, int polls, Outcome outcome) {
+        waits.computeIfAbsent(condition + " -> " + target, key -> new Stats()).add(elapsedNanos, polls, outcome);
+        logger.debug("Wait {} on {} finished with {} after {} ms and {} polls", condition, target, outcome,
+                elapsedNanos / 1_000_000, polls);
+    }
+
+    /**
+     * Records one element lookup resolved through a page object locator.
+     *
+     * @param locator      description of the locator, including the {@code By}
+     * @param elapsedNanos time spent resolving the locator
+     * @param outcome      how the lookup ended
+     */
+    public static void recordLookup(String locator, long elapsedNanos, Outcome outcome) {
+        lastLocator.set(locator);
+        lookups.computeIfAbsent(locator, key -> new Stats()).add(elapsedNanos, 1, outcome);
+    }
+
+    /**
+     * Returns the locator most recently resolved on the current thread, or
+     * {@code null} if none was resolved through a profiled locator.
+     *
+     * @return the last resolved locator description
+     */
+    public static String lastLocator() {
+        return lastLocator.get();
+    }
+
+    /**
+     * Returns the XPath locators whose median resolution time is above the
+     * configured threshold across at least a few lookups.
+     *
+     * @return descriptions of the slow XPath locators, slowest first
+     */
+    public static List<String> findSlowXPathLocators() {
+        long thresholdNanos = SLOW_LOCATOR_THRESHOLD_MS * 1_000_000;
+        return lookups.entrySet().stream()
+                .filter(entry -> entry.getKey().contains("By.xpath:"))
+                .filter(entry -> entry.getValue().count() >= MIN_SAMPLES_TO_FLAG
+                        && entry.getValue().percentile(50) > thresholdNanos)
+                .sorted(Comparator.comparingLong((Map.Entry<String, Stats> entry) -> entry.getValue().percentile(50))
+                        .reversed())
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Writes the ranked wait and locator report to the given file.
+     *
+     * @param filePath the report file path
+     */
+    public static void writeReport(String filePath) {
+        Path path = Paths.get(filePath);
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(path, StandardCharsets.UTF_8))) {
+                writeSection(out, "Slowest waits", waits);
+                out.println();
+                writeSection(out, "Slowest locators", lookups);
+                out.println();
+                out.printf("XPath locators with median resolution above %d ms:%n", SLOW_LOCATOR_THRESHOLD_MS);
+                for (String locator : findSlowXPathLocators()) {
+                    out.println("  " + locator);
+                }
+            }
+            logger.info("Wait profile written to: {}", filePath);
+        } catch (IOException e) {
+            logger.error("Error writing wait profile to: {}", filePath, e);
+        }
+    }
+
+    /**
+     * Clears all collected samples.
+     */
+    public static void reset() {
+        waits.clear();
+        lookups.clear();
+    }
+
+    private static void writeSection(PrintWriter out, String title, Map<String, Stats> stats) {
+        out.println(title + " (ranked by total time)");
+        out.printf("%8s %8s %8s %8s %8s %6s %6s  %s%n", "total", "p50", "p95", "max", "calls", "polls", "fails",
+                "target");
+        stats.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, Stats> entry) -> entry.getValue().totalNanos())
+                        .reversed())
+                .limit(REPORT_LIMIT)
+                .forEach(entry -> {
+                    Stats s = entry.getValue();
+                    out.printf("%8d %8d %8d %8d %8d %6d %6d  %s%n", s.totalNanos() / 1_000_000,
+                            s.percentile(50) / 1_000_000, s.percentile(95) / 1_000_000, s.percentile(100) / 1_000_000,
+                            s.count(), s.polls(), s.failures(), entry.getKey());
+                });
+    }
+
+    /**
+     * Running statistics for one wait or locator key. Counts, totals and the
+     * maximum are exact; percentiles come from a uniform reservoir sample of at
+     * most {@code profiler.maxSamplesPerKey} timings, so memory stays bounded
+     * however often a locator is used.
+     */
+    private static final class Stats {
+        private final List<Long> samples = new ArrayList<>();
+        private long count;
+        private long totalNanos;
+        private long maxNanos;
+        private long polls;
+        private long failures;
+
+        synchronized void add(long elapsedNanos, int pollCount, Outcome outcome) {
+            count++;
+            if (samples.size() < MAX_SAMPLES_PER_KEY) {
+                samples.add(elapsedNanos);
+            } else {
+                // Keeps each timing seen so far with equal probability
+                long slot = ThreadLocalRandom.current().nextLong(count);
+                if (slot < MAX_SAMPLES_PER_KEY) {
+                    samples.set((int) slot, elapsedNanos);
+                }
+            }
+            totalNanos += elapsedNanos;
+            maxNanos = Math.max(maxNanos, elapsedNanos);
+            polls += pollCount;
+            if (outcome != Outcome.SUCCESS) {
+                failures++;
+            }
+        }
+
+        synchronized long count() {
+            return count;
+        }
+
+        synchronized long totalNanos() {
+            return totalNanos;
+        }
+
+        synchronized long polls() {
+            return polls;
+        }
+
+        synchronized long failures() {
+            return failures;
+        }
+
+        synchronized long percentile(int percentile) {
+            if (samples.isEmpty()) {
+                return 0;
+            }
+            if (percentile >= 100) {
+                return maxNanos;
+            }
+            List<Long> sorted = new ArrayList<>(samples);
+            Collections.sort(sorted);
+            int index = (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1;
+            return sorted.get(Math.max(0, index));
+        }
+    }
+}
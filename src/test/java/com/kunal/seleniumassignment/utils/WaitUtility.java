@@ -1,17 +1,23 @@
 package com.kunal.seleniumassignment.utils;
 
 import org.openqa.selenium.By;
+import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.pagefactory.internal.LocatingElementHandler;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.FluentWait;
+import org.openqa.selenium.support.ui.Wait;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.lang.reflect.Proxy;
 import java.time.Duration;
 import java.util.List;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 public class WaitUtility {
 
@@ -33,7 +39,7 @@ public class WaitUtility {
 	public static WebElement waitForElementToBeVisible(WebDriver driver, WebElement element) {
 		try {
 			WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(DEFAULT_TIMEOUT));
-			WebElement visibleElement = wait.until(ExpectedConditions.visibilityOf(element));
+			WebElement visibleElement = timedUntil(wait, ExpectedConditions.visibilityOf(element), "visibilityOf", element);
 			logger.info("Element is visible: {}", element);
 			return visibleElement;
 		} catch (Exception e) {
@@ -52,7 +58,8 @@ public class WaitUtility {
 	public static List<WebElement> waitForElementsToBeVisible(WebDriver driver, List<WebElement> elements) {
 		try {
 			WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(DEFAULT_TIMEOUT));
-			List<WebElement> visibleElements = wait.until(ExpectedConditions.visibilityOfAllElements(elements));
+			List<WebElement> visibleElements = timedUntil(wait, ExpectedConditions.visibilityOfAllElements(elements),
+					"visibilityOfAllElements", elements.isEmpty() ? null : elements.get(0));
 			logger.info("All elements are visible.");
 			return visibleElements;
 		} catch (Exception e) {
@@ -73,12 +80,12 @@ public class WaitUtility {
 			FluentWait<WebDriver> wait = new FluentWait<>(driver).withTimeout(Duration.ofSeconds(DEFAULT_TIMEOUT))
 					.pollingEvery(Duration.ofSeconds(DEFAULT_POLL_INTERVAL)).ignoring(Exception.class);
 
-			WebElement foundElement = wait.until(new Function<WebDriver, WebElement>() {
+			WebElement foundElement = timedUntil(wait, new Function<WebDriver, WebElement>() {
 				@Override
 				public WebElement apply(WebDriver driver) {
 					return element.isDisplayed() ? element : null;
 				}
-			});
+			}, "fluentDisplayed", element);
 
 			logger.info("Element located with fluent wait: {}", element);
 			return foundElement;
@@ -98,7 +105,8 @@ public class WaitUtility {
 	public static WebElement waitForElementToBeVisible(WebDriver driver, By locator) {
 		try {
 			WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(DEFAULT_TIMEOUT));
-			WebElement element = wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+			WebElement element = timedUntil(wait, ExpectedConditions.visibilityOfElementLocated(locator),
+					"visibilityOfElementLocated", locator.toString());
 			logger.info("Element located and visible: {}", locator);
 			return element;
 		} catch (Exception e) {
@@ -117,7 +125,8 @@ public class WaitUtility {
 	public static WebElement waitForElementToBeClickable(WebDriver driver, WebElement element) {
 		try {
 			WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(DEFAULT_TIMEOUT));
-			WebElement visibleElement = wait.until(ExpectedConditions.elementToBeClickable(element));
+			WebElement visibleElement = timedUntil(wait, ExpectedConditions.elementToBeClickable(element),
+					"elementToBeClickable", element);
 			logger.info("Element is visible: {}", element);
 			return visibleElement;
 		} catch (Exception e) {
@@ -125,4 +134,83 @@ public class WaitUtility {
 			throw new RuntimeException("Element not visible: " + element, e);
 		}
 	}
+
+	/**
+	 * Wait for the elements of a locator to show other values of an attribute
+	 * than before, whether the page updates them in place or re-renders them.
+	 *
+	 * @param driver    the WebDriver instance
+	 * @param locator   the element locator
+	 * @param attribute the DOM attribute to compare, e.g. "title"
+	 * @param previous  the values before the change
+	 * @return the new values, or null if they did not change in time
+	 */
+	public static List<String> waitForAttributesToChange(WebDriver driver, By locator, String attribute,
+			List<String> previous) {
+		try {
+			WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(DEFAULT_TIMEOUT));
+			wait.ignoring(StaleElementReferenceException.class);
+			List<String> values = timedUntil(wait, d -> {
+				List<String> current = d.findElements(locator).stream()
+						.map(element -> element.getDomAttribute(attribute)).toList();
+				return current.isEmpty() || current.equals(previous) ? null : current;
+			}, "attributesChanged", locator.toString());
+			logger.info("Elements changed their {}: {}", attribute, locator);
+			return values;
+		} catch (Exception e) {
+			logger.error("Error waiting for elements to change their {}: {}", attribute, locator);
+			return null;
+		}
+	}
+
+	private static <T> T timedUntil(Wait<WebDriver> wait, Function<? super WebDriver, T> condition,
+			String conditionName, WebElement element) {
+		return timedUntil(wait, condition, conditionName, () -> describe(element));
+	}
+
+	private static <T> T timedUntil(Wait<WebDriver> wait, Function<? super WebDriver, T> condition,
+			String conditionName, String target) {
+		return timedUntil(wait, condition, conditionName, () -> target);
+	}
+
+	/**
+	 * Runs the wait while counting condition polls, and reports the elapsed time
+	 * and outcome to {@link WaitProfiler}.
+	 */
+	private static <T> T timedUntil(Wait<WebDriver> wait, Function<? super WebDriver, T> condition,
+			String conditionName, Supplier<String> target) {
+		int[] polls = new int[1];
+		long start = System.nanoTime();
+		WaitProfiler.Outcome outcome = WaitProfiler.Outcome.ERROR;
+		try {
+			T result = wait.until(driver -> {
+				polls[0]++;
+				return condition.apply(driver);
+			});
+			outcome = WaitProfiler.Outcome.SUCCESS;
+			return result;
+		} catch (TimeoutException e) {
+			outcome = WaitProfiler.Outcome.TIMEOUT;
+			throw e;
+		} finally {
+			WaitProfiler.recordWait(target.get(), conditionName, System.nanoTime() - start, polls[0], outcome);
+		}
+	}
+
+	/**
+	 * Describes an element without an extra driver round trip. PageFactory
+	 * proxies resolve their locator on every call, so the locator last resolved
+	 * by {@link ProfilingElementLocatorFactory} identifies them.
+	 */
+	private static String describe(WebElement element) {
+		if (element == null) {
+			return "none";
+		}
+		if (Proxy.isProxyClass(element.getClass())
+				&& Proxy.getInvocationHandler(element) instanceof LocatingElementHandler) {
+			String locator = WaitProfiler.lastLocator();
+			return locator != null ? locator : "PageFactory element";
+		}
+		return element.toString();
+	}
 }
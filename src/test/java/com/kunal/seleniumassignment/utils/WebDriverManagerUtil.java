@@ -1,8 +1,11 @@
 package com.kunal.seleniumassignment.utils;
 
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeDriverService;
 import org.openqa.selenium.firefox.FirefoxDriver;
+import org.openqa.selenium.firefox.GeckoDriverService;
 
 import io.github.bonigarcia.wdm.WebDriverManager;
 import org.slf4j.Logger;
@@ -12,7 +15,12 @@ import org.openqa.selenium.firefox.FirefoxOptions;
 
 public class WebDriverManagerUtil {
 
-    private static WebDriver driver;
+    /** Each test thread runs its own browser process. */
+    public static final String PROCESS_ISOLATION = "process";
+    /** Test threads share one browser process, each in an isolated BiDi user context. */
+    public static final String CONTEXT_ISOLATION = "context";
+
+    private static final ThreadLocal<WebDriver> driver = new ThreadLocal<>();
     private static final Logger logger = LoggerFactory.getLogger(WebDriverManagerUtil.class);
 
     private WebDriverManagerUtil() {
@@ -20,40 +28,142 @@ public class WebDriverManagerUtil {
     }
 
     /**
-     * Returns the WebDriver instance for the specified browser.
+     * Returns the WebDriver instance of the current thread for the specified
+     * browser, using a browser process of its own.
+     *
+     * @param browser the name of the browser (e.g., "chrome", "firefox")
+     * @param headless whether to run in headless mode
+     * @return the WebDriver instance
+     */
+    public static WebDriver getDriver(String browser, String headless) {
+        return getDriver(browser, headless, PROCESS_ISOLATION);
+    }
+
+    /**
+     * Returns the WebDriver instance of the current thread for the specified
+     * browser, launched with the default profile.
+     *
+     * @param browser the name of the browser (e.g., "chrome", "firefox")
+     * @param headless whether to run in headless mode
+     * @param isolation {@link #PROCESS_ISOLATION} or {@link #CONTEXT_ISOLATION}
+     * @return the WebDriver instance
+     */
+    public static WebDriver getDriver(String browser, String headless, String isolation) {
+        return getDriver(browser, headless, isolation, BrowserProfile.DEFAULT.getProfileName());
+    }
+
+    /**
+     * Returns the WebDriver instance of the current thread for the specified
+     * browser. With {@link #CONTEXT_ISOLATION} the driver is an isolated context
+     * of a shared browser; if the shared browser cannot provide one, or has
+     * crashed, the thread falls back to a browser process of its own. Browsers
+     * are only driven from platform threads, never from {@link IoExecutor} tasks.
      *
      * @param browser the name of the browser (e.g., "chrome", "firefox")
      * @param headless whether to run in headless mode
+     * @param isolation {@link #PROCESS_ISOLATION} or {@link #CONTEXT_ISOLATION}
+     * @param launchProfile the {@link BrowserProfile} name, e.g. "fast-headless"
      * @return the WebDriver instance
      */
-    public static synchronized WebDriver getDriver(String browser, String headless) {
+    public static WebDriver getDriver(String browser, String headless, String isolation, String launchProfile) {
+        if (Thread.currentThread().isVirtual()) {
+            throw new IllegalStateException("Browsers are driven from platform threads only");
+        }
+        if (driver.get() == null) {
+            BrowserProfile profile = BrowserProfile.fromName(launchProfile);
+            if (CONTEXT_ISOLATION.equalsIgnoreCase(isolation)) {
+                try {
+                    driver.set(SharedBrowser.get(browser, headless, profile).openContext());
+                } catch (Exception e) {
+                    logger.warn("Isolated context unavailable, falling back to a dedicated browser: {}",
+                        e.getMessage());
+                    driver.set(createDriver(browser, headless, profile, false, true));
+                }
+            } else {
+                driver.set(createDriver(browser, headless, profile, false, true));
+            }
+        }
+        return driver.get();
+    }
+
+    /**
+     * Creates a new WebDriver instance that is not shared through this class.
+     * The caller owns the instance and is responsible for quitting it.
+     *
+     * @param browser the name of the browser (e.g., "chrome", "firefox")
+     * @param headless whether to run in headless mode
+     * @return the new WebDriver instance
+     */
+    public static WebDriver createDriver(String browser, String headless) {
+        return createDriver(browser, headless, BrowserProfile.DEFAULT, false, false);
+    }
+
+    /**
+     * Creates a new WebDriver instance with the given launch profile. The
+     * caller owns the instance and is responsible for quitting it.
+     *
+     * @param browser the name of the browser (e.g., "chrome", "firefox")
+     * @param headless whether to run in headless mode, unless the profile fixes it
+     * @param launchProfile the {@link BrowserProfile} name, e.g. "fast-headless"
+     * @return the new WebDriver instance
+     */
+    public static WebDriver createDriver(String browser, String headless, String launchProfile) {
+        return createDriver(browser, headless, BrowserProfile.fromName(launchProfile), false, false);
+    }
+
+    /**
+     * Creates a new WebDriver instance, optionally with WebDriver BiDi enabled,
+     * and records its launch-to-ready time in {@link BrowserLaunchMetrics}.
+     *
+     * @param browser the name of the browser (e.g., "chrome", "firefox")
+     * @param headless whether to run in headless mode, unless the profile fixes it
+     * @param profile the launch profile
+     * @param enableBiDi whether to request a BiDi websocket for the session
+     * @param perTest whether the browser serves a single test, see {@link BrowserWatchdog#track}
+     * @return the new WebDriver instance
+     */
+    static WebDriver createDriver(String browser, String headless, BrowserProfile profile, boolean enableBiDi,
+        boolean perTest) {
         try {
-            if (driver == null) {
-                logger.info("Initializing WebDriver for browser: {}", browser);
-                if (browser.equalsIgnoreCase("chrome")) {
-                    WebDriverManager.chromedriver().setup();
-                    ChromeOptions options = new ChromeOptions();
-                    if (Boolean.parseBoolean(headless)) {
-                        options.addArguments("--headless");
-                    }
-                    driver = new ChromeDriver(options);
-                    logger.info("ChromeDriver initialized successfully");
-                } else if (browser.equalsIgnoreCase("firefox")) {
-                    WebDriverManager.firefoxdriver().setup();
-                    FirefoxOptions options = new FirefoxOptions();
-                    if (Boolean.parseBoolean(headless)) {
-                        options.addArguments("--headless");
-                    }
-                    driver = new FirefoxDriver(options);
-                    logger.info("FirefoxDriver initialized successfully");
-                } else {
-                    logger.error("Unsupported browser: {}", browser);
-                    throw new IllegalArgumentException("Unsupported browser: " + browser);
+            WebDriver newDriver;
+            boolean requestedHeadless = Boolean.parseBoolean(headless);
+            logger.info("Initializing WebDriver for browser: {} with profile: {}", browser, profile.getProfileName());
+            long start;
+            int driverPort;
+            if (browser.equalsIgnoreCase("chrome")) {
+                WebDriverManager.chromedriver().setup();
+                ChromeOptions options = profile.chromeOptions(requestedHeadless);
+                if (enableBiDi) {
+                    options.setCapability("webSocketUrl", true);
+                }
+                ChromeDriverService service = ChromeDriverService.createDefaultService();
+                start = System.nanoTime();
+                newDriver = new ChromeDriver(service, options);
+                driverPort = service.getUrl().getPort();
+                logger.info("ChromeDriver initialized successfully");
+            } else if (browser.equalsIgnoreCase("firefox")) {
+                WebDriverManager.firefoxdriver().setup();
+                FirefoxOptions options = profile.firefoxOptions(requestedHeadless);
+                if (enableBiDi) {
+                    options.setCapability("webSocketUrl", true);
                 }
-                driver.manage().window().maximize();
+                GeckoDriverService service = GeckoDriverService.createDefaultService();
+                start = System.nanoTime();
+                newDriver = new FirefoxDriver(service, options);
+                driverPort = service.getUrl().getPort();
+                logger.info("FirefoxDriver initialized successfully");
+            } else {
+                logger.error("Unsupported browser: {}", browser);
+                throw new IllegalArgumentException("Unsupported browser: " + browser);
+            }
+            // Headless windows already have their size from the launch arguments
+            if (profile.shouldMaximize(requestedHeadless)) {
+                newDriver.manage().window().maximize();
                 logger.info("WebDriver window maximized");
             }
-            return driver;
+            BrowserLaunchMetrics.record(browser, profile, System.nanoTime() - start);
+            BrowserWatchdog.track(newDriver, browser, driverPort, perTest);
+            return newDriver;
         } catch (Exception e) {
             logger.error("Error initializing WebDriver for browser: {}", browser, e);
             throw new RuntimeException("Failed to initialize WebDriver for browser: " + browser, e);
@@ -61,19 +171,77 @@ public class WebDriverManagerUtil {
     }
 
     /**
-     * Quits the WebDriver instance and releases resources.
+     * Quits the WebDriver instance of the current thread and releases resources.
+     * An isolated context is closed without affecting its shared browser.
      */
-    public static synchronized void quitDriver() {
+    public static void quitDriver() {
+        WebDriver current = driver.get();
         try {
-            if (driver != null) {
+            if (current != null) {
                 logger.info("Quitting WebDriver");
-                driver.quit();
-                driver = null;
+                if (SharedBrowser.isContextDriver(current)) {
+                    SharedBrowser.close(current);
+                } else {
+                    quit(current);
+                }
                 logger.info("WebDriver quit successfully");
             }
         } catch (Exception e) {
             logger.error("Error quitting WebDriver", e);
             throw new RuntimeException("Failed to quit WebDriver", e);
+        } finally {
+            driver.remove();
         }
     }
+
+    /**
+     * Returns a browser to a clean state without relaunching it: clears the
+     * cookies and storage of the current site and opens a blank page.
+     *
+     * @param webDriver the WebDriver to reset
+     * @return true if the reset worked, false if the browser should be replaced
+     */
+    public static boolean softReset(WebDriver webDriver) {
+        try {
+            webDriver.manage().deleteAllCookies();
+            ((JavascriptExecutor) webDriver).executeScript(
+                "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+            webDriver.get("about:blank");
+            logger.info("WebDriver soft reset");
+            return true;
+        } catch (Exception e) {
+            logger.warn("Soft reset failed, the WebDriver will be replaced: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Quits a WebDriver created by this class and makes sure its driver and
+     * browser processes are gone, even if quitting fails. Quitting a driver
+     * whose processes the {@link BrowserWatchdog} killed is not an error.
+     *
+     * @param webDriver the WebDriver to quit
+     */
+    public static void quit(WebDriver webDriver) {
+        if (ResponseCache.getInstance() != null) {
+            ResponseCache.getInstance().detach(webDriver);
+        }
+        try {
+            webDriver.quit();
+        } catch (RuntimeException e) {
+            if (!BrowserWatchdog.isKilled(webDriver)) {
+                throw e;
+            }
+            logger.warn("WebDriver was already killed by the browser watchdog: {}", e.getMessage());
+        } finally {
+            BrowserWatchdog.release(webDriver);
+        }
+    }
+
+    /**
+     * Quits the shared browsers used for isolated contexts.
+     */
+    public static void quitSharedBrowsers() {
+        SharedBrowser.quitAll();
+    }
 }